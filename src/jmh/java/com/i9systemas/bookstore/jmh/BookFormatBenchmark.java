@@ -0,0 +1,110 @@
+package com.i9systemas.bookstore.jmh;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.i9systemas.bookstore.codec.BookProtobuf;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Codificação e decodificação de um livro (GET /api/livros/{id}) e de uma lista de 10 mil livros em cada
+ * formato negociável. O tamanho em bytes, sem e com gzip, é impresso no início de cada combinação.
+ * Execução: mvn test -Pjmh -Djmh.args="BookFormatBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookFormatBenchmark {
+
+    @Param({"json", "smile", "cbor", "protobuf"})
+    private String format;
+
+    @Param({"1", "10000"})
+    private int books;
+
+    private Object payload;
+    private byte[] encoded;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<BookResponseDTO> content = new ArrayList<>(books);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= books; i++) {
+            content.add(new BookResponseDTO((long) i, "Livro de teste número " + i, "Autor " + (i % 1000),
+                    String.format("978%010d", i), 1900 + (i % 120), now.minusDays(i), now, (long) (i % 5)));
+        }
+        payload = books == 1 ? content.get(0) : new BookPageResponseDTO(content, books, true, "cursor");
+
+        if (!format.equals("protobuf")) {
+            // Mesma configuração que o Spring Boot aplica aos ObjectMappers da aplicação
+            ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                    .factory(factory())
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+            writer = objectMapper.writerFor(payload.getClass());
+            reader = objectMapper.readerFor(payload.getClass());
+        }
+        encoded = encode();
+        System.out.printf("%n[formato] %-8s %5d livro(s): %,10d B  gzip: %,10d B%n",
+                format, books, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return format.equals("protobuf") ? BookProtobuf.toByteArray(payload) : writer.writeValueAsBytes(payload);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        if (!format.equals("protobuf")) {
+            return reader.readValue(encoded);
+        }
+        return books == 1 ? BookProtobuf.readBook(encoded) : BookProtobuf.readPage(encoded);
+    }
+
+    private JsonFactory factory() {
+        return switch (format) {
+            case "smile" -> new SmileFactory();
+            case "cbor" -> new CBORFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(bytes);
+        }
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,61 @@
+package com.i9systemas.bookstore.jmh;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookJsonBenchmark {
+
+    private ObjectWriter responseWriter;
+    private ObjectReader requestReader;
+    private BookResponseDTO response;
+    private byte[] requestPayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mesma configuração que o Spring Boot aplica ao ObjectMapper da aplicação
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        responseWriter = objectMapper.writerFor(BookResponseDTO.class);
+        requestReader = objectMapper.readerFor(BookRequestDTO.class);
+        response = new BookResponseDTO(1L, "Clean Code", "Robert C. Martin", "9780132350884", 2008,
+                LocalDateTime.now(), LocalDateTime.now(), 3L);
+        requestPayload = objectMapper.writeValueAsBytes(
+                new BookRequestDTO("Clean Code", "Robert C. Martin", "9780132350884", 2008));
+    }
+
+    @Benchmark
+    public byte[] serializeResponse() throws IOException {
+        return responseWriter.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public BookRequestDTO deserializeRequest() throws IOException {
+        return requestReader.readValue(requestPayload);
+    }
+}
@@ -0,0 +1,54 @@
+package com.i9systemas.bookstore.jmh;
+
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookMappingBenchmark {
+
+    private Book book;
+    private BookRequestDTO requestDTO;
+
+    @Setup
+    public void setUp() {
+        book = new Book();
+        book.setId(1L);
+        book.setTitulo("Clean Code");
+        book.setAutor("Robert C. Martin");
+        book.setIsbn("9780132350884");
+        book.setAnoPublicacao(2008);
+        book.setCreatedAt(LocalDateTime.now());
+        book.setUpdatedAt(LocalDateTime.now());
+        book.setVersion(3L);
+        requestDTO = new BookRequestDTO("Clean Code", "Robert C. Martin", "9780132350884", 2008);
+    }
+
+    @Benchmark
+    public BookResponseDTO fromEntity() {
+        return BookResponseDTO.fromEntity(book);
+    }
+
+    @Benchmark
+    public Book toEntity() {
+        return requestDTO.toEntity();
+    }
+}
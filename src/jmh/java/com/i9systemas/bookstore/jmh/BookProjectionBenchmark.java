@@ -0,0 +1,118 @@
+package com.i9systemas.bookstore.jmh;
+
+import com.i9systemas.bookstore.BookstoreManagerApplication;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.model.Book;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.service.BookService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leitura de entidades gerenciadas + BookResponseDTO.fromEntity x projeção JPQL direto no DTO, para um
+ * livro e para uma página, em transação somente leitura como nos endpoints. Alocação por operação:
+ * mvn test -Pjmh -Djmh.args="BookProjectionBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookProjectionBenchmark {
+
+    private static final int BOOKS = 10_000;
+    private static final int PAGE_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private BookRepository bookRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private final List<Long> ids = new ArrayList<>(BOOKS);
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookstoreManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("bookstore.cache.enabled=false", "logging.level.root=WARN")
+                .run();
+        bookRepository = context.getBean(BookRepository.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        BookService bookService = context.getBean(BookService.class);
+        for (int i = 0; i < BOOKS; i++) {
+            ids.add(bookService.create(new BookRequestDTO("Livro " + i, "Autor " + (i % 100), isbn13(i), 2000)).getId());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookResponseDTO singleEntity() {
+        Long id = randomId();
+        return readOnly.execute(status -> BookResponseDTO.fromEntity(bookRepository.findBookById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public BookResponseDTO singleProjection() {
+        Long id = randomId();
+        return readOnly.execute(status -> bookRepository.findResponseById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<BookResponseDTO> pageEntity() {
+        return readOnly.execute(status -> entityManager
+                .createQuery("SELECT b FROM Book b WHERE b.id > :afterId ORDER BY b.id", Book.class)
+                .setParameter("afterId", 0L)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(BookResponseDTO::fromEntity)
+                .toList());
+    }
+
+    @Benchmark
+    public List<BookResponseDTO> pageProjection() {
+        return readOnly.execute(status -> bookRepository.findResponsePageAfter(0L, PageRequest.of(0, PAGE_SIZE)));
+    }
+
+    private Long randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(BOOKS));
+    }
+
+    private static String isbn13(int sequence) {
+        String body = "978" + String.format("%09d", sequence);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body + ((10 - sum % 10) % 10);
+    }
+}
@@ -0,0 +1,103 @@
+package com.i9systemas.bookstore.jmh;
+
+import com.i9systemas.bookstore.BookstoreManagerApplication;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.service.BookService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chamadas ao BookService contra o H2 embarcado (configuração de src/test/resources).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookServiceBenchmark {
+
+    private static final int BOOKS = 10_000;
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private ConfigurableApplicationContext context;
+    private BookService bookService;
+    private final List<BookResponseDTO> books = new ArrayList<>(BOOKS);
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookstoreManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("bookstore.cache.enabled=" + cacheEnabled, "logging.level.root=WARN")
+                .run();
+        bookService = context.getBean(BookService.class);
+        for (int i = 0; i < BOOKS; i++) {
+            books.add(bookService.create(new BookRequestDTO("Livro " + i, "Autor " + (i % 100), isbn13(i), 2000)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BookResponseDTO findById() {
+        return bookService.findById(randomBook().getId());
+    }
+
+    @Benchmark
+    public BookResponseDTO findByIsbn() {
+        return bookService.findByIsbn(randomBook().getIsbn());
+    }
+
+    @Benchmark
+    public BookPageResponseDTO findPage() {
+        return bookService.findPage(null, 50);
+    }
+
+    @Benchmark
+    public BookResponseDTO update() {
+        BookResponseDTO book = randomBook();
+        return bookService.update(book.getId(),
+                new BookRequestDTO("Livro " + sequence.incrementAndGet(), book.getAutor(), book.getIsbn(), 2000));
+    }
+
+    private BookResponseDTO randomBook() {
+        return books.get(ThreadLocalRandom.current().nextInt(BOOKS));
+    }
+
+    private static String isbn13(int sequence) {
+        String body = "978" + String.format("%09d", sequence);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body + ((10 - sum % 10) % 10);
+    }
+}
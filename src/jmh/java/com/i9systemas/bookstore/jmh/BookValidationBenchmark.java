@@ -0,0 +1,82 @@
+package com.i9systemas.bookstore.jmh;
+
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.validation.Isbn;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookValidationBenchmark {
+
+    // Expressão usada antes de @ValidIsbn, mantida como referência de comparação
+    private static final Pattern LEGACY_ISBN_PATTERN = Pattern.compile(
+            "^(?:ISBN(?:-1[03])?:? )?(?=[0-9X]{10}$|(?=(?:[0-9]+[- ]){3})[- 0-9X]{13}$|97[89][0-9]{10}$|(?=(?:[0-9]+[- ]){4})[- 0-9]{17}$)(?:97[89][- ]?)?[0-9]{1,5}[- ]?[0-9]+[- ]?[0-9]+[- ]?[0-9X]$");
+
+    // ISBN-10, ISBN-13 com hífens, ISBN-13 compacto, dígito verificador errado e formato inválido
+    @Param({"0132350882", "978-0-13-235088-4", "9780132350884", "978-0-13-235088-5", "978-01323508X4"})
+    private String isbn;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private BookRequestDTO requestDTO;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        requestDTO = new BookRequestDTO("Clean Code", "Robert C. Martin", isbn, 2008);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookRequestDTO>> validateRequest() {
+        return validator.validate(requestDTO);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return LEGACY_ISBN_PATTERN.matcher(isbn).matches();
+    }
+
+    @Benchmark
+    public boolean isbnParser() {
+        return Isbn.isValid(isbn);
+    }
+
+    @Benchmark
+    public String isbnNormalize() {
+        return Isbn.normalize(isbn);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<BookRequestDTO>> validateIsbn() {
+        return validator.validateProperty(requestDTO, "isbn");
+    }
+}
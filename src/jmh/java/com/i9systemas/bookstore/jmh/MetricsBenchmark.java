@@ -0,0 +1,71 @@
+package com.i9systemas.bookstore.jmh;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de registrar uma medição em um timer Prometheus: sem histograma, com histograma de buckets fixos
+ * (configuração usada em http.server.requests e bookstore.service) e com percentis calculados no cliente.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MetricsBenchmark {
+
+    private Timer plain;
+    private Timer histogram;
+    private Timer clientPercentiles;
+
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        plain = Timer.builder("plain").register(registry);
+        histogram = Timer.builder("histogram")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(30))
+                .register(registry);
+        clientPercentiles = Timer.builder("client.percentiles")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+
+    @Benchmark
+    public void recordPlain() {
+        plain.record(latency(), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void recordHistogram() {
+        histogram.record(latency(), TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void recordClientPercentiles() {
+        clientPercentiles.record(latency(), TimeUnit.NANOSECONDS);
+    }
+
+    private static long latency() {
+        return ThreadLocalRandom.current().nextLong(100_000, 50_000_000);
+    }
+}
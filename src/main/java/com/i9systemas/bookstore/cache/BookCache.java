@@ -0,0 +1,25 @@
+package com.i9systemas.bookstore.cache;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+
+import java.util.Optional;
+
+public interface BookCache {
+
+    Optional<BookResponseDTO> getById(Long id);
+
+    Optional<BookResponseDTO> getByIsbn(String isbn);
+
+    void put(BookResponseDTO book);
+
+    void evict(Long id, String... isbns);
+
+    void clear();
+
+    BookCacheStats stats();
+
+    // false quando nada é guardado: sem cache compartilhado, uma leitura pode vir de uma réplica atrasada
+    default boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.i9systemas.bookstore.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookCacheStats {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long size;
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
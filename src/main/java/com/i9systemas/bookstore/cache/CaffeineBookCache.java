@@ -0,0 +1,99 @@
+package com.i9systemas.bookstore.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CaffeineBookCache implements BookCache {
+
+    private final Cache<Long, BookResponseDTO> booksById;
+    private final Cache<String, Long> idsByIsbn;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CaffeineBookCache(long maximumSize, Duration ttl) {
+        this.booksById = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.idsByIsbn = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @Override
+    public Optional<BookResponseDTO> getById(Long id) {
+        return record(booksById.getIfPresent(id));
+    }
+
+    @Override
+    public Optional<BookResponseDTO> getByIsbn(String isbn) {
+        Long id = idsByIsbn.getIfPresent(isbn);
+        if (id == null) {
+            return record(null);
+        }
+
+        // O índice por ISBN aponta para o ID; um livro removido ou com ISBN alterado invalida o alias
+        BookResponseDTO book = booksById.getIfPresent(id);
+        if (book == null || !isbn.equals(book.getIsbn())) {
+            idsByIsbn.asMap().remove(isbn, id);
+            return record(null);
+        }
+        return record(book);
+    }
+
+    @Override
+    public void put(BookResponseDTO book) {
+        // Uma leitura lenta não pode sobrescrever uma versão mais nova já publicada no cache
+        booksById.asMap().merge(book.getId(), book, (current, candidate) -> isOlder(candidate, current) ? current : candidate);
+        idsByIsbn.put(book.getIsbn(), book.getId());
+    }
+
+    @Override
+    public void evict(Long id, String... isbns) {
+        if (id != null) {
+            booksById.invalidate(id);
+        }
+        for (String isbn : isbns) {
+            if (isbn != null) {
+                idsByIsbn.invalidate(isbn);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        booksById.invalidateAll();
+        idsByIsbn.invalidateAll();
+    }
+
+    @Override
+    public BookCacheStats stats() {
+        return new BookCacheStats(
+                hits.sum(),
+                misses.sum(),
+                booksById.stats().evictionCount(),
+                booksById.estimatedSize()
+        );
+    }
+
+    private static boolean isOlder(BookResponseDTO candidate, BookResponseDTO current) {
+        return candidate.getVersion() != null && current.getVersion() != null
+                && candidate.getVersion() < current.getVersion();
+    }
+
+    private Optional<BookResponseDTO> record(BookResponseDTO book) {
+        if (book == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return Optional.ofNullable(book);
+    }
+}
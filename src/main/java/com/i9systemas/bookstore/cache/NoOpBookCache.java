@@ -0,0 +1,45 @@
+package com.i9systemas.bookstore.cache;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NoOpBookCache implements BookCache {
+
+    private final LongAdder misses = new LongAdder();
+
+    @Override
+    public Optional<BookResponseDTO> getById(Long id) {
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<BookResponseDTO> getByIsbn(String isbn) {
+        misses.increment();
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(BookResponseDTO book) {
+    }
+
+    @Override
+    public void evict(Long id, String... isbns) {
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public BookCacheStats stats() {
+        return new BookCacheStats(0, misses.sum(), 0, 0);
+    }
+}
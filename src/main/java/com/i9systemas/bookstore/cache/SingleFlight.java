@@ -0,0 +1,82 @@
+package com.i9systemas.bookstore.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa cargas simultâneas da mesma chave: a primeira chamada executa a carga na própria thread e as
+ * demais aguardam o mesmo resultado, inclusive a exceção. Quem espera mais que o timeout faz a própria
+ * carga, então um líder lento nunca bloqueia os demais indefinidamente.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long timeoutNanos;
+    private final LongAdder coalesced = new LongAdder();
+
+    public SingleFlight(boolean enabled, Duration timeout) {
+        this.enabled = enabled;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    public V load(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing == null) {
+            try {
+                V value = loader.get();
+                flight.complete(value);
+                return value;
+            } catch (RuntimeException | Error ex) {
+                flight.completeExceptionally(ex);
+                throw ex;
+            } finally {
+                flights.remove(key, flight);
+            }
+        }
+
+        coalesced.increment();
+        try {
+            return existing.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            return loader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        }
+    }
+
+    // Chamadas seguintes iniciam uma nova carga; quem já aguarda recebe o resultado da carga em andamento
+    public void forget(K key) {
+        if (key != null) {
+            flights.remove(key);
+        }
+    }
+
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    public long coalesced() {
+        return coalesced.sum();
+    }
+}
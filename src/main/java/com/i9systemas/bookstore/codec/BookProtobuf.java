@@ -0,0 +1,302 @@
+package com.i9systemas.bookstore.codec;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.ErrorResponse;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codificação protobuf de livros, páginas e erros conforme {@code proto/books.proto}, sem classes geradas:
+ * os DTOs da API são escritos e lidos direto com {@link CodedOutputStream} e {@link CodedInputStream}.
+ * Campos null não são escritos; campos ausentes são lidos como null.
+ */
+public final class BookProtobuf {
+
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-protobuf");
+
+    // Números de campo de books.proto
+    private static final int BOOK_ID = 1;
+    private static final int BOOK_TITULO = 2;
+    private static final int BOOK_AUTOR = 3;
+    private static final int BOOK_ISBN = 4;
+    private static final int BOOK_ANO_PUBLICACAO = 5;
+    private static final int BOOK_CREATED_AT = 6;
+    private static final int BOOK_UPDATED_AT = 7;
+    private static final int BOOK_VERSION = 8;
+
+    private static final int PAGE_CONTENT = 1;
+    private static final int PAGE_LIMIT = 2;
+    private static final int PAGE_HAS_NEXT = 3;
+    private static final int PAGE_NEXT_CURSOR = 4;
+
+    private static final int ERROR_TIMESTAMP = 1;
+    private static final int ERROR_STATUS = 2;
+    private static final int ERROR_ERROR = 3;
+    private static final int ERROR_MESSAGE = 4;
+    private static final int ERROR_PATH = 5;
+    private static final int ERROR_FIELD_ERRORS = 6;
+
+    private static final int FIELD_ERROR_FIELD = 1;
+    private static final int FIELD_ERROR_MESSAGE = 2;
+
+    private BookProtobuf() {
+    }
+
+    public static boolean supports(Class<?> type) {
+        return BookResponseDTO.class.isAssignableFrom(type)
+                || BookPageResponseDTO.class.isAssignableFrom(type)
+                || ErrorResponse.class.isAssignableFrom(type);
+    }
+
+    public static void write(Object value, CodedOutputStream out) throws IOException {
+        if (value instanceof BookResponseDTO book) {
+            writeBook(book, out);
+        } else if (value instanceof BookPageResponseDTO page) {
+            writePage(page, out);
+        } else if (value instanceof ErrorResponse error) {
+            writeError(error, out);
+        } else {
+            throw new IllegalArgumentException("Sem formato protobuf para " + value.getClass().getName());
+        }
+    }
+
+    public static byte[] toByteArray(Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CodedOutputStream out = CodedOutputStream.newInstance(output);
+        write(value, out);
+        out.flush();
+        return output.toByteArray();
+    }
+
+    public static BookResponseDTO readBook(byte[] bytes) throws IOException {
+        return readBook(CodedInputStream.newInstance(bytes));
+    }
+
+    public static BookPageResponseDTO readPage(byte[] bytes) throws IOException {
+        return readPage(CodedInputStream.newInstance(bytes));
+    }
+
+    public static ErrorResponse readError(byte[] bytes) throws IOException {
+        return readError(CodedInputStream.newInstance(bytes));
+    }
+
+    // Livro
+
+    private static void writeBook(BookResponseDTO book, CodedOutputStream out) throws IOException {
+        if (book.getId() != null) {
+            out.writeInt64(BOOK_ID, book.getId());
+        }
+        if (book.getTitulo() != null) {
+            out.writeString(BOOK_TITULO, book.getTitulo());
+        }
+        if (book.getAutor() != null) {
+            out.writeString(BOOK_AUTOR, book.getAutor());
+        }
+        if (book.getIsbn() != null) {
+            out.writeString(BOOK_ISBN, book.getIsbn());
+        }
+        if (book.getAnoPublicacao() != null) {
+            out.writeInt32(BOOK_ANO_PUBLICACAO, book.getAnoPublicacao());
+        }
+        if (book.getCreatedAt() != null) {
+            out.writeInt64(BOOK_CREATED_AT, toMicros(book.getCreatedAt()));
+        }
+        if (book.getUpdatedAt() != null) {
+            out.writeInt64(BOOK_UPDATED_AT, toMicros(book.getUpdatedAt()));
+        }
+        if (book.getVersion() != null) {
+            out.writeInt64(BOOK_VERSION, book.getVersion());
+        }
+    }
+
+    private static int bookSize(BookResponseDTO book) {
+        int size = 0;
+        if (book.getId() != null) {
+            size += CodedOutputStream.computeInt64Size(BOOK_ID, book.getId());
+        }
+        if (book.getTitulo() != null) {
+            size += CodedOutputStream.computeStringSize(BOOK_TITULO, book.getTitulo());
+        }
+        if (book.getAutor() != null) {
+            size += CodedOutputStream.computeStringSize(BOOK_AUTOR, book.getAutor());
+        }
+        if (book.getIsbn() != null) {
+            size += CodedOutputStream.computeStringSize(BOOK_ISBN, book.getIsbn());
+        }
+        if (book.getAnoPublicacao() != null) {
+            size += CodedOutputStream.computeInt32Size(BOOK_ANO_PUBLICACAO, book.getAnoPublicacao());
+        }
+        if (book.getCreatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(BOOK_CREATED_AT, toMicros(book.getCreatedAt()));
+        }
+        if (book.getUpdatedAt() != null) {
+            size += CodedOutputStream.computeInt64Size(BOOK_UPDATED_AT, toMicros(book.getUpdatedAt()));
+        }
+        if (book.getVersion() != null) {
+            size += CodedOutputStream.computeInt64Size(BOOK_VERSION, book.getVersion());
+        }
+        return size;
+    }
+
+    private static BookResponseDTO readBook(CodedInputStream in) throws IOException {
+        BookResponseDTO book = new BookResponseDTO();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case BOOK_ID -> book.setId(in.readInt64());
+                case BOOK_TITULO -> book.setTitulo(in.readStringRequireUtf8());
+                case BOOK_AUTOR -> book.setAutor(in.readStringRequireUtf8());
+                case BOOK_ISBN -> book.setIsbn(in.readStringRequireUtf8());
+                case BOOK_ANO_PUBLICACAO -> book.setAnoPublicacao(in.readInt32());
+                case BOOK_CREATED_AT -> book.setCreatedAt(fromMicros(in.readInt64()));
+                case BOOK_UPDATED_AT -> book.setUpdatedAt(fromMicros(in.readInt64()));
+                case BOOK_VERSION -> book.setVersion(in.readInt64());
+                default -> in.skipField(tag);
+            }
+        }
+        return book;
+    }
+
+    // Página
+
+    private static void writePage(BookPageResponseDTO page, CodedOutputStream out) throws IOException {
+        if (page.getContent() != null) {
+            for (BookResponseDTO book : page.getContent()) {
+                out.writeTag(PAGE_CONTENT, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(bookSize(book));
+                writeBook(book, out);
+            }
+        }
+        if (page.getLimit() != 0) {
+            out.writeInt32(PAGE_LIMIT, page.getLimit());
+        }
+        if (page.isHasNext()) {
+            out.writeBool(PAGE_HAS_NEXT, true);
+        }
+        if (page.getNextCursor() != null) {
+            out.writeString(PAGE_NEXT_CURSOR, page.getNextCursor());
+        }
+    }
+
+    private static BookPageResponseDTO readPage(CodedInputStream in) throws IOException {
+        BookPageResponseDTO page = new BookPageResponseDTO(new ArrayList<>(), 0, false, null);
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case PAGE_CONTENT -> {
+                    int limit = in.pushLimit(in.readRawVarint32());
+                    page.getContent().add(readBook(in));
+                    in.popLimit(limit);
+                }
+                case PAGE_LIMIT -> page.setLimit(in.readInt32());
+                case PAGE_HAS_NEXT -> page.setHasNext(in.readBool());
+                case PAGE_NEXT_CURSOR -> page.setNextCursor(in.readStringRequireUtf8());
+                default -> in.skipField(tag);
+            }
+        }
+        return page;
+    }
+
+    // Erro
+
+    private static void writeError(ErrorResponse error, CodedOutputStream out) throws IOException {
+        if (error.getTimestamp() != null) {
+            out.writeInt64(ERROR_TIMESTAMP, toMicros(error.getTimestamp()));
+        }
+        if (error.getStatus() != 0) {
+            out.writeInt32(ERROR_STATUS, error.getStatus());
+        }
+        if (error.getError() != null) {
+            out.writeString(ERROR_ERROR, error.getError());
+        }
+        if (error.getMessage() != null) {
+            out.writeString(ERROR_MESSAGE, error.getMessage());
+        }
+        if (error.getPath() != null) {
+            out.writeString(ERROR_PATH, error.getPath());
+        }
+        if (error.getFieldErrors() != null) {
+            for (ErrorResponse.FieldError fieldError : error.getFieldErrors()) {
+                out.writeTag(ERROR_FIELD_ERRORS, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                out.writeUInt32NoTag(fieldErrorSize(fieldError));
+                if (fieldError.getField() != null) {
+                    out.writeString(FIELD_ERROR_FIELD, fieldError.getField());
+                }
+                if (fieldError.getMessage() != null) {
+                    out.writeString(FIELD_ERROR_MESSAGE, fieldError.getMessage());
+                }
+            }
+        }
+    }
+
+    private static int fieldErrorSize(ErrorResponse.FieldError fieldError) {
+        int size = 0;
+        if (fieldError.getField() != null) {
+            size += CodedOutputStream.computeStringSize(FIELD_ERROR_FIELD, fieldError.getField());
+        }
+        if (fieldError.getMessage() != null) {
+            size += CodedOutputStream.computeStringSize(FIELD_ERROR_MESSAGE, fieldError.getMessage());
+        }
+        return size;
+    }
+
+    private static ErrorResponse readError(CodedInputStream in) throws IOException {
+        ErrorResponse error = new ErrorResponse();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case ERROR_TIMESTAMP -> error.setTimestamp(fromMicros(in.readInt64()));
+                case ERROR_STATUS -> error.setStatus(in.readInt32());
+                case ERROR_ERROR -> error.setError(in.readStringRequireUtf8());
+                case ERROR_MESSAGE -> error.setMessage(in.readStringRequireUtf8());
+                case ERROR_PATH -> error.setPath(in.readStringRequireUtf8());
+                case ERROR_FIELD_ERRORS -> {
+                    int limit = in.pushLimit(in.readRawVarint32());
+                    error.setFieldErrors(add(error.getFieldErrors(), readFieldError(in)));
+                    in.popLimit(limit);
+                }
+                default -> in.skipField(tag);
+            }
+        }
+        return error;
+    }
+
+    private static ErrorResponse.FieldError readFieldError(CodedInputStream in) throws IOException {
+        ErrorResponse.FieldError fieldError = new ErrorResponse.FieldError();
+        int tag;
+        while ((tag = in.readTag()) != 0) {
+            switch (WireFormat.getTagFieldNumber(tag)) {
+                case FIELD_ERROR_FIELD -> fieldError.setField(in.readStringRequireUtf8());
+                case FIELD_ERROR_MESSAGE -> fieldError.setMessage(in.readStringRequireUtf8());
+                default -> in.skipField(tag);
+            }
+        }
+        return fieldError;
+    }
+
+    private static List<ErrorResponse.FieldError> add(List<ErrorResponse.FieldError> list, ErrorResponse.FieldError item) {
+        List<ErrorResponse.FieldError> result = list != null ? list : new ArrayList<>();
+        result.add(item);
+        return result;
+    }
+
+    // LocalDateTime sem fuso: os microssegundos contam a partir de 1970-01-01T00:00 no mesmo relógio local
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,43 @@
+package com.i9systemas.bookstore.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+// Escreve livros, páginas e erros em application/x-protobuf (proto/books.proto). Só respostas: as
+// requisições continuam em JSON
+public class BookProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    public BookProtobufHttpMessageConverter() {
+        super(BookProtobuf.MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return BookProtobuf.supports(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Requisições em protobuf não são aceitas", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream out = CodedOutputStream.newInstance(outputMessage.getBody(), BUFFER_SIZE);
+        BookProtobuf.write(value, out);
+        out.flush();
+    }
+}
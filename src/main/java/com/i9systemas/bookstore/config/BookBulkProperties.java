@@ -0,0 +1,12 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.bulk")
+public class BookBulkProperties {
+
+    // Itens por transação; cada transação envia um único lote JDBC de UPDATE ou DELETE
+    private int chunkSize = 1_000;
+}
@@ -0,0 +1,37 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.CaffeineBookCache;
+import com.i9systemas.bookstore.cache.NoOpBookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BookCacheConfig {
+
+    // Um backend distribuído pode ser plugado registrando outro bean BookCache
+    @Bean
+    @ConditionalOnMissingBean(BookCache.class)
+    public BookCache bookCache(BookCacheProperties properties) {
+        if (!properties.isEnabled()) {
+            return new NoOpBookCache();
+        }
+        return new CaffeineBookCache(properties.getMaximumSize(), properties.getTtl());
+    }
+
+    // Chaves: ID (Long) ou ISBN canônico (String)
+    @Bean
+    public SingleFlight<Object, BookResponseDTO> bookLookups(BookCacheProperties properties, MeterRegistry meterRegistry) {
+        SingleFlight<Object, BookResponseDTO> lookups =
+                new SingleFlight<>(properties.isCoalescingEnabled(), properties.getCoalescingTimeout());
+        FunctionCounter.builder("bookstore.cache.coalesced", lookups, SingleFlight::coalesced)
+                .description("Buscas por ID/ISBN atendidas pela consulta de outra requisição simultânea")
+                .register(meterRegistry);
+        return lookups;
+    }
+}
@@ -0,0 +1,19 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.cache")
+public class BookCacheProperties {
+
+    private boolean enabled = true;
+    private long maximumSize = 10_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    // Buscas simultâneas pela mesma chave fora do cache viram uma única consulta; quem espera mais
+    // que coalescing-timeout consulta por conta própria
+    private boolean coalescingEnabled = true;
+    private Duration coalescingTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,13 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.changes")
+public class BookChangeFeedProperties {
+
+    // Expõe GET /api/livros/changes. As posições do feed vêm do publicador do outbox: ligado, exige
+    // bookstore.outbox.publisher-enabled=true, senão o feed ficaria vazio para sempre
+    private boolean enabled = true;
+}
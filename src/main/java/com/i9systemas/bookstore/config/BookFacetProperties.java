@@ -0,0 +1,13 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.facets")
+public class BookFacetProperties {
+
+    // Contagens mantidas em memória a partir das escritas desta instância: só enxerga as escritas feitas por
+    // ela, então vale apenas com uma única instância (e sem a variante reativa) escrevendo no banco
+    private boolean summaryEnabled = false;
+}
@@ -0,0 +1,15 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.import")
+public class BookImportProperties {
+
+    // Linhas por transação
+    private int chunkSize = 1_000;
+
+    // Linhas por lote JDBC dentro de cada transação
+    private int batchSize = 100;
+}
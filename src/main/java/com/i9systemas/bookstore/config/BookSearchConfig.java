@@ -0,0 +1,29 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import com.i9systemas.bookstore.search.InMemoryBookSearchEngine;
+import com.i9systemas.bookstore.search.PostgresBookSearchEngine;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class BookSearchConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.search.engine", havingValue = "postgres", matchIfMissing = true)
+    public BookSearchEngine postgresBookSearchEngine(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource,
+                                                     BookSearchProperties properties) {
+        return new PostgresBookSearchEngine(jdbcTemplate, dataSource, properties.isCreateIndexes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.search.engine", havingValue = "memory")
+    public BookSearchEngine inMemoryBookSearchEngine(BookRepository bookRepository) {
+        return new InMemoryBookSearchEngine(bookRepository);
+    }
+}
@@ -0,0 +1,20 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.search")
+public class BookSearchProperties {
+
+    public enum Engine {
+        POSTGRES,
+        MEMORY
+    }
+
+    private Engine engine = Engine.POSTGRES;
+
+    // Cria extensão pg_trgm e índices GIN (CONCURRENTLY) depois da subida; o normal é aplicar
+    // db/search-indexes.sql como migração na implantação, com um usuário que tenha permissão
+    private boolean createIndexes = false;
+}
@@ -0,0 +1,36 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.limiter.ConcurrencyLimitInterceptor;
+import com.i9systemas.bookstore.limiter.ConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bookstore.limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitConfig(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public ConcurrencyLimiter concurrencyLimiter() {
+        return new ConcurrencyLimiter(properties, meterRegistry);
+    }
+
+    // Só a API de livros: actuator e endpoints administrativos continuam respondendo sob sobrecarga
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiter(), properties.getClientHeader(),
+                        properties.getTrustedProxies()))
+                .addPathPatterns("/api/livros", "/api/livros/**");
+    }
+}
@@ -0,0 +1,48 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.limiter")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    // Limite de requisições simultâneas por grupo de endpoints: parte de initial-limit e se ajusta
+    // entre min-limit e max-limit conforme a latência observada
+    private int initialLimit = 20;
+
+    private int minLimit = 4;
+
+    private int maxLimit = 200;
+
+    // Latência média da janela tolerada em relação à de referência antes de reduzir o limite
+    private double rttTolerance = 1.5;
+
+    // Peso de cada ajuste (0..1): valores baixos suavizam oscilações
+    private double smoothing = 0.2;
+
+    // Cada ajuste usa ao menos window-samples respostas e window de duração
+    private Duration window = Duration.ofMillis(100);
+
+    private int windowSamples = 10;
+
+    // Fator aplicado ao limite quando o banco responde 503 (sobrecarregado) na janela
+    private double backoffRatio = 0.9;
+
+    // Acima desta fração do limite em uso, cada cliente fica com no máximo sua parte (limite / clientes ativos)
+    private double fairShareThreshold = 0.5;
+
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    // O cliente é o usuário autenticado ou o endereço remoto. client-header só identifica o cliente quando a
+    // requisição vem de um dos endereços em trusted-proxies, que definem o cabeçalho em nome do cliente
+    private String clientHeader = "X-Client-Id";
+
+    private List<String> trustedProxies = new ArrayList<>();
+}
@@ -0,0 +1,56 @@
+package com.i9systemas.bookstore.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.i9systemas.bookstore.codec.BookProtobufHttpMessageConverter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+// Além do JSON, as respostas podem sair em CBOR (application/cbor), Smile (application/x-jackson-smile)
+// ou protobuf (application/x-protobuf) conforme o Accept. Os formatos binários ficam no fim da lista de
+// conversores: Accept */* ou ausente continua recebendo JSON
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public ContentNegotiationConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Os conversores padrão de CBOR e Smile não usam a configuração do Jackson do Spring Boot
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(new BookProtobufHttpMessageConverter());
+    }
+
+    // A mesma URL responde em formatos diferentes: caches intermediários precisam separar pelo Accept
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/livros", "/api/livros/**");
+    }
+}
@@ -0,0 +1,47 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.datasource.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "bookstore.datasource.concurrency", name = "enabled", havingValue = "true")
+public class DatabaseConcurrencyConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    // Só o pool Hikari do Spring Boot é envolvido: proxies e o roteamento das réplicas não são pools, e com
+    // réplicas ligadas o ReadReplicaConfig limita o primário por conta própria (ver limitPrimary)
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            ObjectProvider<DatabaseConcurrencyProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource pool)) {
+                    return bean;
+                }
+                return limitPrimary(pool, properties.getObject());
+            }
+        };
+    }
+
+    static DataSource limitPrimary(HikariDataSource pool, DatabaseConcurrencyProperties config) {
+        return new ConcurrencyLimitingDataSource(pool, maxConcurrent(pool, config), config.getAcquireTimeout());
+    }
+
+    // Sem limite explícito, acompanha o pool: mais permissões que conexões só moveria a fila para o Hikari
+    private static int maxConcurrent(HikariDataSource pool, DatabaseConcurrencyProperties config) {
+        if (config.getMaxConcurrent() > 0) {
+            return config.getMaxConcurrent();
+        }
+        // Antes de iniciar o pool o Hikari reporta -1 quando o tamanho não foi configurado
+        return pool.getMaximumPoolSize() > 0 ? pool.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,18 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.datasource.concurrency")
+public class DatabaseConcurrencyProperties {
+
+    private boolean enabled = false;
+
+    // Conexões simultâneas; 0 usa o tamanho máximo do pool Hikari
+    private int maxConcurrent = 0;
+
+    private Duration acquireTimeout = Duration.ofSeconds(5);
+}
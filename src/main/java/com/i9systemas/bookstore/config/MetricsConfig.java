@@ -0,0 +1,68 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.datasource.StatementCountingDataSource;
+import com.i9systemas.bookstore.metrics.SqlStatementAsyncInterceptor;
+import com.i9systemas.bookstore.metrics.SqlStatementCounter;
+import com.i9systemas.bookstore.metrics.SqlStatementMetricsFilter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    // Habilita @Timed em beans do Spring (BookService)
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // static: criado antes do DataSource, sem inicializar esta configuração junto
+    @Bean
+    public static SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    // Contagem no DataSource, e não no Hibernate: JdbcTemplate (exportação, facetas, busca no Postgres,
+    // operações em lote, feed de mudanças) também entra no orçamento
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(ObjectProvider<SqlStatementCounter> counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof StatementCountingDataSource) {
+                    return bean;
+                }
+                return new StatementCountingDataSource(dataSource, counter.getObject());
+            }
+        };
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlStatementAsyncSupport(SqlStatementCounter counter) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+                configurer.registerCallableInterceptors(new SqlStatementAsyncInterceptor(counter));
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(
+            SqlStatementCounter counter, MeterRegistry meterRegistry, SqlStatementBudgetProperties budget) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(counter, meterRegistry, budget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
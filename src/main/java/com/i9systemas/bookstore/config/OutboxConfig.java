@@ -0,0 +1,86 @@
+package com.i9systemas.bookstore.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.outbox.ApplicationEventOutboxSink;
+import com.i9systemas.bookstore.outbox.FileOutboxSink;
+import com.i9systemas.bookstore.outbox.InMemoryTopicOutboxSink;
+import com.i9systemas.bookstore.outbox.OutboxChangeFollower;
+import com.i9systemas.bookstore.outbox.OutboxPublisher;
+import com.i9systemas.bookstore.outbox.OutboxSink;
+import com.i9systemas.bookstore.repository.OutboxEventRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import com.i9systemas.bookstore.service.BookFacetService;
+import com.i9systemas.bookstore.service.OutboxService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.outbox.sink", havingValue = "in-process", matchIfMissing = true)
+    public OutboxSink applicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        return new ApplicationEventOutboxSink(eventPublisher);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.outbox.sink", havingValue = "file")
+    public OutboxSink fileOutboxSink(ObjectMapper objectMapper, OutboxProperties properties) {
+        return new FileOutboxSink(objectMapper, properties.getFilePath());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "bookstore.outbox.sink", havingValue = "memory")
+    public OutboxSink inMemoryTopicOutboxSink() {
+        return new InMemoryTopicOutboxSink();
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "bookstore.outbox.publisher-enabled", havingValue = "true", matchIfMissing = true)
+    static class OutboxPublisherConfig {
+
+        @Bean
+        public OutboxPublisher outboxPublisher(OutboxService outboxService, MeterRegistry meterRegistry) {
+            return new OutboxPublisher(outboxService, meterRegistry);
+        }
+    }
+
+    // Sem publicador nesta instância ninguém atribui as posições do feed de mudanças: com o feed exposto,
+    // GET /api/livros/changes responderia vazio para qualquer escrita. Falha na subida em vez disso
+    @Configuration
+    @ConditionalOnProperty(name = "bookstore.outbox.publisher-enabled", havingValue = "false")
+    static class OutboxWithoutPublisherConfig {
+
+        OutboxWithoutPublisherConfig(BookChangeFeedProperties changeFeedProperties) {
+            if (changeFeedProperties.isEnabled()) {
+                throw new IllegalStateException("O feed de mudanças (bookstore.changes.enabled) depende do publicador "
+                        + "do outbox: ligue bookstore.outbox.publisher-enabled ou desligue o feed");
+            }
+        }
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "bookstore.outbox.follow-enabled", havingValue = "true", matchIfMissing = true)
+    static class OutboxFollowerConfig {
+
+        @Bean
+        public OutboxChangeFollower outboxChangeFollower(OutboxEventRepository eventRepository, ObjectMapper objectMapper,
+                                                         BookCache bookCache,
+                                                         SingleFlight<Object, BookResponseDTO> bookLookups,
+                                                         BookSearchEngine bookSearchEngine,
+                                                         BookFacetService facetService, OutboxProperties properties,
+                                                         MeterRegistry meterRegistry) {
+            return new OutboxChangeFollower(eventRepository, objectMapper, bookCache, bookLookups, bookSearchEngine,
+                    facetService, properties.getBatchSize(), meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.outbox")
+public class OutboxProperties {
+
+    public enum Sink {
+        // ApplicationEvent no próprio processo (@EventListener de OutboxEventDTO)
+        IN_PROCESS,
+        // Arquivo NDJSON com fsync por lote
+        FILE,
+        // Tópico em memória, substituto local de um broker
+        MEMORY
+    }
+
+    private Sink sink = Sink.IN_PROCESS;
+
+    // Publicação agendada; desligada, os eventos ficam pendentes até publishPending()
+    private boolean publisherEnabled = true;
+
+    private long pollIntervalMs = 500;
+
+    // Eventos por transação de publicação
+    private int batchSize = 500;
+
+    // Cada instância acompanha o log publicado e invalida seus caches nas mudanças feitas por outros escritores
+    private boolean followEnabled = true;
+
+    private long followIntervalMs = 500;
+
+    // Eventos publicados há mais tempo que isso são removidos (0 mantém todos)
+    private Duration retention = Duration.ofDays(7);
+
+    private long cleanupIntervalMs = 3_600_000;
+
+    private Path filePath = Path.of("outbox", "book-events.ndjson");
+
+    // Máximo de eventos por leitura na API de consumidores
+    private int maxReadLimit = 1_000;
+}
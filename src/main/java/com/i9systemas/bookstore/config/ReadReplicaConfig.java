@@ -0,0 +1,104 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.datasource.ReadReplicaRoutingDataSource;
+import com.i9systemas.bookstore.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Substitui o DataSource do Spring Boot: o pool de spring.datasource continua sendo o primário e cada
+// entrada de bookstore.datasource.read-replicas.nodes ganha um pool próprio
+@Configuration
+@ConditionalOnProperty(prefix = "bookstore.datasource.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig implements DisposableBean {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReadReplicaProperties properties,
+                                 DatabaseConcurrencyProperties concurrencyProperties, Environment environment,
+                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("bookstore-primary");
+        }
+        register(primary, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReadReplicaProperties.Node node : properties.getNodes()) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("bookstore-replica-" + (replicas.size() + 1));
+            replica.setJdbcUrl(node.getUrl());
+            replica.setUsername(node.getUsername() != null ? node.getUsername() : dataSourceProperties.determineUsername());
+            replica.setPassword(node.getPassword() != null ? node.getPassword() : dataSourceProperties.determinePassword());
+            replica.setMaximumPoolSize(replicaPoolSize(primary, properties));
+            replica.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+            replica.setReadOnly(true);
+            // Réplica fora do ar na subida não impede a aplicação de iniciar; ela só fica fora da rotação
+            replica.setInitializationFailTimeout(-1);
+            register(replica, meterRegistry);
+            replicas.put(replica.getPoolName(), replica);
+        }
+
+        // O limite de conexões simultâneas vale só para o primário; nas réplicas, esperar pelo semáforo e
+        // desistir contaria como falha da réplica e a tiraria da rotação
+        DataSource writes = concurrencyProperties.isEnabled()
+                ? DatabaseConcurrencyConfig.limitPrimary(primary, concurrencyProperties)
+                : primary;
+        ReadReplicaRoutingDataSource routing =
+                new ReadReplicaRoutingDataSource(writes, replicas, properties.getEjectionDuration());
+        Gauge.builder("bookstore.datasource.replicas.available", routing, ReadReplicaRoutingDataSource::getAvailableReplicas)
+                .description("Réplicas de leitura em rotação")
+                .register(meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReadReplicaProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getClientHeader(), properties.getReadYourWritesWindow()));
+        registration.setEnabled(!properties.getReadYourWritesWindow().isZero());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+        return registration;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private void register(HikariDataSource pool, MeterRegistry meterRegistry) {
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        pools.add(pool);
+    }
+
+    private static int replicaPoolSize(HikariDataSource primary, ReadReplicaProperties properties) {
+        if (properties.getMaximumPoolSize() > 0) {
+            return properties.getMaximumPoolSize();
+        }
+        return primary.getMaximumPoolSize() > 0 ? primary.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+    }
+}
@@ -0,0 +1,41 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    // Conexões por réplica; 0 usa o tamanho máximo do pool do primário
+    private int maximumPoolSize = 0;
+
+    // Curto: uma réplica fora do ar atrasa a leitura só até este limite antes de ser ejetada
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+    // Depois de uma alteração, leituras do mesmo cliente vão para o primário; 0 desativa
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private String clientHeader = "X-Client-Id";
+
+    @Data
+    public static class Node {
+
+        private String url;
+
+        // Sem usuário e senha, usa os de spring.datasource
+        private String username;
+
+        private String password;
+    }
+}
@@ -0,0 +1,10 @@
+package com.i9systemas.bookstore.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+// O interceptor de retry envolve o transacional: cada tentativa roda em uma transação nova
+@Configuration
+@EnableRetry
+public class RetryConfig {
+}
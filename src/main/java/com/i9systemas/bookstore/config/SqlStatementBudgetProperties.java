@@ -0,0 +1,25 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.sql.budget")
+public class SqlStatementBudgetProperties {
+
+    private boolean enabled = true;
+
+    // Comandos SQL por requisição acima dos quais a requisição é registrada em log e contada
+    private int maxStatements = 10;
+
+    // Orçamentos por método e rota, ex.: bookstore.sql.budget.routes.delete[/api/livros/{id}]=2
+    private Map<String, Map<String, Integer>> routes = new HashMap<>();
+
+    public int budgetFor(String method, String uri) {
+        return routes.getOrDefault(method.toLowerCase(Locale.ROOT), Map.of()).getOrDefault(uri, maxStatements);
+    }
+}
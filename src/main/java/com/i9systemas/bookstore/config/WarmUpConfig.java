@@ -0,0 +1,20 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.service.BookService;
+import com.i9systemas.bookstore.warmup.WarmUpRunner;
+import jakarta.validation.Validator;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class WarmUpConfig {
+
+    @Bean
+    public WarmUpRunner warmUpRunner(WarmUpProperties properties, ApplicationContext applicationContext,
+                                     DataSource dataSource, Validator validator, BookService bookService) {
+        return new WarmUpRunner(properties, applicationContext, dataSource, validator, bookService);
+    }
+}
@@ -0,0 +1,21 @@
+package com.i9systemas.bookstore.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "bookstore.warmup")
+public class WarmUpProperties {
+
+    private boolean enabled = true;
+
+    // Rodadas de leituras pela porta HTTP (listagem, busca por ID e por ISBN)
+    private int requests = 100;
+
+    // Tempo máximo do aquecimento: ao atingir, a aplicação passa a aceitar tráfego mesmo sem terminar
+    private Duration timeout = Duration.ofSeconds(20);
+
+    private String clientId = "warmup";
+}
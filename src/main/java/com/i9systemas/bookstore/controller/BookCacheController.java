@@ -0,0 +1,29 @@
+package com.i9systemas.bookstore.controller;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.BookCacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache/livros")
+@RequiredArgsConstructor
+public class BookCacheController {
+
+    private final BookCache bookCache;
+
+    @GetMapping("/stats")
+    public ResponseEntity<BookCacheStats> stats() {
+        return ResponseEntity.ok(bookCache.stats());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        bookCache.clear();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.i9systemas.bookstore.controller;
+
+import com.i9systemas.bookstore.dto.BookChangesResponseDTO;
+import com.i9systemas.bookstore.service.BookChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/livros")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "bookstore.changes.enabled", havingValue = "true", matchIfMissing = true)
+public class BookChangeFeedController {
+
+    private final BookChangeFeedService bookChangeFeedService;
+
+    // Mudanças desde o cursor, em ordem; reenviar nextCursor retoma de onde parou
+    @GetMapping("/changes")
+    public ResponseEntity<BookChangesResponseDTO> changes(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(bookChangeFeedService.changesSince(since, limit));
+    }
+}
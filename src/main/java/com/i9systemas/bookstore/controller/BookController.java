@@ -1,52 +1,228 @@
 package com.i9systemas.bookstore.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.i9systemas.bookstore.dto.BookBatchGetRequestDTO;
+import com.i9systemas.bookstore.dto.BookBatchGetResponseDTO;
+import com.i9systemas.bookstore.dto.BookBulkDeleteDTO;
+import com.i9systemas.bookstore.dto.BookBulkReportDTO;
+import com.i9systemas.bookstore.dto.BookFacetsDTO;
+import com.i9systemas.bookstore.dto.BookImportReportDTO;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookPatchDTO;
 import com.i9systemas.bookstore.dto.BookRequestDTO;
 import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.dto.BookSearchResponseDTO;
+import com.i9systemas.bookstore.dto.BookVersionDTO;
+import com.i9systemas.bookstore.limiter.ConcurrencyGroup;
+import com.i9systemas.bookstore.search.SearchMode;
+import com.i9systemas.bookstore.service.BookBulkService;
+import com.i9systemas.bookstore.service.BookETag;
+import com.i9systemas.bookstore.service.BookExportService;
+import com.i9systemas.bookstore.service.BookFacetService;
+import com.i9systemas.bookstore.service.BookImportService;
 import com.i9systemas.bookstore.service.BookService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/livros")
 @RequiredArgsConstructor
 public class BookController {
 
+    public static final String NDJSON = "application/x-ndjson";
+
     private final BookService bookService;
+    private final BookImportService bookImportService;
+    private final BookBulkService bookBulkService;
+    private final BookExportService bookExportService;
+    private final BookFacetService bookFacetService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<BookResponseDTO> create(@Valid @RequestBody BookRequestDTO requestDTO) {
         BookResponseDTO response = bookService.create(requestDTO);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(BookETag.of(response))
+                .body(response);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    @ConcurrencyGroup(ConcurrencyGroup.BULK)
+    public ResponseEntity<BookImportReportDTO> importBooks(InputStream body) throws IOException {
+        // Um array JSON ou uma sequência NDJSON são lidos item a item, sem carregar o corpo inteiro
+        try (MappingIterator<BookRequestDTO> books = objectMapper.readerFor(BookRequestDTO.class).readValues(body)) {
+            BookImportReportDTO report = bookImportService.importBooks(books);
+            return ResponseEntity.ok(report);
+        }
+    }
+
+    // Alterações parciais em lote (array JSON ou NDJSON de {id, version?, campos...}), lidas item a item
+    @PatchMapping(consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    @ConcurrencyGroup(ConcurrencyGroup.BULK)
+    public ResponseEntity<BookBulkReportDTO> bulkPatch(InputStream body) throws IOException {
+        try (MappingIterator<BookPatchDTO> patches = objectMapper.readerFor(BookPatchDTO.class).readValues(body)) {
+            return ResponseEntity.ok(bookBulkService.patch(patches));
+        }
+    }
+
+    @PostMapping(value = "/bulk-delete", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON})
+    @ConcurrencyGroup(ConcurrencyGroup.BULK)
+    public ResponseEntity<BookBulkReportDTO> bulkDelete(InputStream body) throws IOException {
+        try (MappingIterator<BookBulkDeleteDTO> items = objectMapper.readerFor(BookBulkDeleteDTO.class).readValues(body)) {
+            return ResponseEntity.ok(bookBulkService.delete(items));
+        }
+    }
+
+    // Resolve vários livros por ID e/ou ISBN numa só chamada; a ordem da resposta é a da requisição
+    @PostMapping("/batch-get")
+    @ConcurrencyGroup(ConcurrencyGroup.BULK)
+    public ResponseEntity<BookBatchGetResponseDTO> batchGet(@Valid @RequestBody BookBatchGetRequestDTO requestDTO) {
+        return ResponseEntity.ok(bookService.batchGet(requestDTO.getIds(), requestDTO.getIsbns()));
     }
 
     @GetMapping
-    public ResponseEntity<List<BookResponseDTO>> findAll() {
-        List<BookResponseDTO> books = bookService.findAll();
-        return ResponseEntity.ok(books);
+    public ResponseEntity<BookPageResponseDTO> findAll(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        BookPageResponseDTO page = bookService.findPage(after, limit);
+        // If-None-Match é avaliado pelo Spring a partir do ETag da resposta (304 sem corpo). ETag fraca: o
+        // Tomcat não comprime respostas com ETag forte, e a página não é usada em If-Match
+        return ResponseEntity.ok()
+                .eTag("W/\"" + BookETag.ofPage(page.getContent(), page.getNextCursor()) + "\"")
+                .body(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<BookSearchResponseDTO> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchMode mode,
+            @RequestParam(required = false) Integer offset,
+            @RequestParam(required = false) Integer limit) {
+        BookSearchResponseDTO results = bookService.search(q, mode, offset, limit);
+        return ResponseEntity.ok(results);
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<BookFacetsDTO> facets(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(bookFacetService.facets(limit));
+    }
+
+    @GetMapping(value = "/stream", produces = NDJSON)
+    @ConcurrencyGroup(ConcurrencyGroup.UNLIMITED)
+    public ResponseEntity<StreamingResponseBody> stream() {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(BookResponseDTO.class)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                bookService.streamAll(book -> {
+                    try {
+                        writer.write(book);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(body);
+    }
+
+    // Catálogo completo (ou uma faixa de anos) em CSV ou NDJSON, comprimido com gzip quando o cliente aceita
+    @GetMapping("/export")
+    @ConcurrencyGroup(ConcurrencyGroup.UNLIMITED)
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(defaultValue = "NDJSON") BookExportService.Format format,
+            @RequestParam(required = false) Integer anoMin,
+            @RequestParam(required = false) Integer anoMax,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(outputStream, 64 * 1024);
+                bookExportService.export(compressed, format, anoMin, anoMax);
+                compressed.finish();
+            } else {
+                bookExportService.export(outputStream, format, anoMin, anoMax);
+            }
+        };
+        boolean csv = format == BookExportService.Format.CSV;
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.parseMediaType(NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"livros." + (csv ? "csv" : "ndjson") + "\"")
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<BookResponseDTO> findById(@PathVariable Long id) {
+    public ResponseEntity<BookResponseDTO> findById(@PathVariable Long id, WebRequest webRequest) {
+        if (isConditional(webRequest)) {
+            Optional<BookVersionDTO> version = bookService.findVersion(id);
+            if (version.isPresent()) {
+                String eTag = BookETag.of(version.get());
+                long lastModified = BookETag.lastModified(version.get().getUpdatedAt());
+                if (webRequest.checkNotModified(eTag, lastModified)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+                }
+            }
+        }
+
         BookResponseDTO book = bookService.findById(id);
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(book))
+                .lastModified(BookETag.lastModified(book.getUpdatedAt()))
+                .body(book);
+    }
+
+    @GetMapping("/isbn/{isbn}")
+    public ResponseEntity<BookResponseDTO> findByIsbn(@PathVariable String isbn) {
+        BookResponseDTO book = bookService.findByIsbn(isbn);
         return ResponseEntity.ok(book);
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<BookResponseDTO> update(
             @PathVariable Long id,
-            @Valid @RequestBody BookRequestDTO requestDTO) {
-        BookResponseDTO response = bookService.update(id, requestDTO);
-        return ResponseEntity.ok(response);
+            @Valid @RequestBody BookRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        BookResponseDTO response = ifMatch == null
+                ? bookService.update(id, requestDTO)
+                : bookService.update(id, requestDTO, ifMatch);
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(response))
+                .lastModified(BookETag.lastModified(response.getUpdatedAt()))
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        bookService.delete(id);
+    public ResponseEntity<Void> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        bookService.delete(id, ifMatch);
         return ResponseEntity.noContent().build();
     }
+
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
 }
\ No newline at end of file
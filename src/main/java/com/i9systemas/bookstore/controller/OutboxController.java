@@ -0,0 +1,47 @@
+package com.i9systemas.bookstore.controller;
+
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+import com.i9systemas.bookstore.dto.OutboxOffsetDTO;
+import com.i9systemas.bookstore.dto.OutboxOffsetRequestDTO;
+import com.i9systemas.bookstore.service.OutboxService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/outbox")
+@RequiredArgsConstructor
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    @GetMapping("/events")
+    public ResponseEntity<List<OutboxEventDTO>> events(
+            @RequestParam(defaultValue = "0") Long after,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(outboxService.readEvents(after, limit));
+    }
+
+    @GetMapping("/consumers/{consumer}")
+    public ResponseEntity<OutboxOffsetDTO> offset(@PathVariable String consumer) {
+        return ResponseEntity.ok(outboxService.getOffset(consumer));
+    }
+
+    // Eventos após o offset confirmado; o offset só avança com PUT (pelo menos uma vez)
+    @GetMapping("/consumers/{consumer}/events")
+    public ResponseEntity<List<OutboxEventDTO>> consumerEvents(
+            @PathVariable String consumer,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(outboxService.readEventsFor(consumer, limit));
+    }
+
+    @PutMapping("/consumers/{consumer}")
+    public ResponseEntity<OutboxOffsetDTO> commit(
+            @PathVariable String consumer,
+            @Valid @RequestBody OutboxOffsetRequestDTO requestDTO) {
+        return ResponseEntity.ok(outboxService.commitOffset(consumer, requestDTO.getOffset()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.i9systemas.bookstore.datasource;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Cada conexão emprestada ocupa uma permissão até ser fechada. Com threads virtuais o número de
+// requisições simultâneas não é mais limitado pelo pool do Tomcat; quem espera aqui fica estacionado
+// sem ocupar thread de plataforma e desiste após o timeout em vez de acumular no pool
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutNanos;
+
+    public ConcurrencyLimitingDataSource(DataSource targetDataSource, int maxConcurrent, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limit(() -> obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limit(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getActiveConnections() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Limite de " + maxConcurrent + " conexões simultâneas ao banco atingido");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexão com o banco", ex);
+        }
+    }
+
+    private Connection limit(ConnectionSupplier supplier) throws SQLException {
+        Connection target;
+        try {
+            target = supplier.get();
+        } catch (SQLException | RuntimeException ex) {
+            permits.release();
+            throw ex;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Limited connection [" + target + "]";
+                    case "close" -> {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        yield null;
+                    }
+                    default -> invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Connection target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
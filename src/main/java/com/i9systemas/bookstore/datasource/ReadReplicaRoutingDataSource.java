@@ -0,0 +1,133 @@
+package com.i9systemas.bookstore.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+// Transações somente leitura vão para as réplicas em round-robin; escritas, conexões fora de transação
+// e threads marcadas com usePrimary() vão para o primário. Precisa estar atrás de um
+// LazyConnectionDataSourceProxy: a conexão só é pedida no primeiro comando, quando a transação já
+// foi marcada como readOnly. Réplica que falha ao entregar conexão fica fora da rotação por
+// ejectionDuration e depois volta a ser tentada; sem réplica disponível, a leitura vai para o primário
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long ejectionNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration ejectionDuration) {
+        this(primary, replicas, ejectionDuration, System::nanoTime);
+    }
+
+    ReadReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration ejectionDuration,
+                                 LongSupplier nanoClock) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.ejectionNanos = ejectionDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    // Leituras da thread atual vão para o primário até o close() do escopo (read-your-writes)
+    public static Scope usePrimary() {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            } else {
+                PRIMARY_ONLY.set(previous);
+            }
+        };
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replicas.isEmpty() || !routeToReplica()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            long now = nanoClock.getAsLong();
+            if (!replica.isAvailable(now)) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.readmit();
+                return connection;
+            } catch (SQLException ex) {
+                replica.eject(now + ejectionNanos);
+                log.warn("Réplica {} fora da rotação por {} ms: {}", replica.name, ejectionNanos / 1_000_000,
+                        ex.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    public int getAvailableReplicas() {
+        long now = nanoClock.getAsLong();
+        return (int) replicas.stream().filter(replica -> replica.isAvailable(now)).count();
+    }
+
+    private static boolean routeToReplica() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && PRIMARY_ONLY.get() == null;
+    }
+
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean ejected;
+        private volatile long ejectedUntilNanos;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private boolean isAvailable(long now) {
+            return !ejected || now - ejectedUntilNanos >= 0;
+        }
+
+        private void eject(long untilNanos) {
+            ejectedUntilNanos = untilNanos;
+            ejected = true;
+        }
+
+        private void readmit() {
+            if (ejected) {
+                ejected = false;
+                log.info("Réplica {} de volta à rotação", name);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.i9systemas.bookstore.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+// Depois de uma alteração bem-sucedida, as leituras do mesmo cliente vão para o primário durante a janela
+// configurada, para não ler de uma réplica atrasada o que acabou de gravar. O cliente é identificado pelo
+// cabeçalho configurado (X-Client-Id) ou, na falta dele, pelo endereço remoto
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
+
+    private final String clientHeader;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(String clientHeader, Duration window) {
+        this.clientHeader = clientHeader;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String client = clientOf(request);
+        if (recentWriters.getIfPresent(client) == null) {
+            filterChain.doFilter(request, response);
+        } else {
+            try (ReadReplicaRoutingDataSource.Scope ignored = ReadReplicaRoutingDataSource.usePrimary()) {
+                filterChain.doFilter(request, response);
+            }
+        }
+        if (!SAFE_METHODS.contains(request.getMethod()) && response.getStatus() < 400) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        return client == null || client.isBlank() ? request.getRemoteAddr() : client;
+    }
+}
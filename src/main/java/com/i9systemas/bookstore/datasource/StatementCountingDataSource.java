@@ -0,0 +1,84 @@
+package com.i9systemas.bookstore.datasource;
+
+import com.i9systemas.bookstore.metrics.SqlStatementCounter;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+// Conta no SqlStatementCounter cada comando enviado por qualquer caminho (Hibernate, JdbcTemplate, scripts):
+// um por PreparedStatement/CallableStatement preparado, como um lote JDBC, e um por execução de Statement simples
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> PREPARE_METHODS = Set.of("prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTE_METHODS =
+            Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch");
+
+    private final SqlStatementCounter counter;
+
+    public StatementCountingDataSource(DataSource targetDataSource, SqlStatementCounter counter) {
+        super(targetDataSource);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return count(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return count(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection count(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTargetConnection" -> target;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Counted connection [" + target + "]";
+                    case "createStatement" -> count((Statement) invoke(target, method, args));
+                    default -> {
+                        if (PREPARE_METHODS.contains(method.getName())) {
+                            counter.increment();
+                        }
+                        yield invoke(target, method, args);
+                    }
+                });
+    }
+
+    private Statement count(Statement target) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{Statement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Counted statement [" + target + "]";
+                    default -> {
+                        if (EXECUTE_METHODS.contains(method.getName())) {
+                            counter.increment();
+                        }
+                        yield invoke(target, method, args);
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchGetItemDTO {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        // ISBN com formato ou dígito verificador inválido
+        INVALID
+    }
+
+    // Chave como enviada: exatamente um dos dois é preenchido
+    private Long id;
+    private String isbn;
+
+    private Status status;
+
+    // null quando status != FOUND
+    private BookResponseDTO book;
+}
@@ -0,0 +1,31 @@
+package com.i9systemas.bookstore.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchGetRequestDTO {
+
+    public static final int MAX_KEYS = 1000;
+
+    @Size(max = MAX_KEYS, message = "No máximo " + MAX_KEYS + " IDs por requisição")
+    private List<Long> ids;
+
+    @Size(max = MAX_KEYS, message = "No máximo " + MAX_KEYS + " ISBNs por requisição")
+    private List<String> isbns;
+
+    @JsonIgnore
+    @AssertTrue(message = "Informe ao menos um ID ou ISBN, até " + MAX_KEYS + " no total")
+    public boolean isKeyCountValid() {
+        int count = (ids == null ? 0 : ids.size()) + (isbns == null ? 0 : isbns.size());
+        return count > 0 && count <= MAX_KEYS;
+    }
+}
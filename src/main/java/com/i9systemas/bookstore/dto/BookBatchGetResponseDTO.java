@@ -0,0 +1,18 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBatchGetResponseDTO {
+
+    // Na ordem da requisição: primeiro os IDs, depois os ISBNs
+    private List<BookBatchGetItemDTO> results;
+    private int found;
+    private int notFound;
+}
@@ -0,0 +1,20 @@
+package com.i9systemas.bookstore.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBulkDeleteDTO {
+
+    @NotNull(message = "O ID é obrigatório")
+    private Long id;
+
+    // Opcional: remove apenas se o livro ainda estiver nesta versão
+    @PositiveOrZero(message = "A versão não pode ser negativa")
+    private Long version;
+}
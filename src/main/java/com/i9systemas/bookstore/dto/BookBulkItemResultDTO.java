@@ -0,0 +1,35 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookBulkItemResultDTO {
+
+    public enum Status {
+        UPDATED,
+        DELETED,
+        // Nenhum campo informado difere do valor atual: nada é gravado
+        UNCHANGED,
+        NOT_FOUND,
+        // Versão informada (ou lida no início do lote) não é mais a atual
+        CONFLICT,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    // Posição do item na requisição (a partir de 1)
+    private int item;
+    private Long id;
+    private Status status;
+
+    // Versão após a operação (null se nada foi gravado)
+    private Long version;
+    private List<String> messages;
+}
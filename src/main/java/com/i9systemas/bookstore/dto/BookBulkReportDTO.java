@@ -0,0 +1,28 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class BookBulkReportDTO {
+
+    private int total;
+    private Map<BookBulkItemResultDTO.Status, Integer> summary = new EnumMap<>(BookBulkItemResultDTO.Status.class);
+    private List<BookBulkItemResultDTO> items = new ArrayList<>();
+
+    public void add(BookBulkItemResultDTO result) {
+        items.add(result);
+        total++;
+        summary.merge(result.getStatus(), 1, Integer::sum);
+    }
+
+    public int count(BookBulkItemResultDTO.Status status) {
+        return summary.getOrDefault(status, 0);
+    }
+}
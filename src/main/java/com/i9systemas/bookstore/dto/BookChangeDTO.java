@@ -0,0 +1,28 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookChangeDTO {
+
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    private long sequence;
+    private Type type;
+    private Long bookId;
+
+    // updatedAt do livro ou momento da remoção
+    private LocalDateTime changedAt;
+
+    // Estado atual do livro (null em DELETE)
+    private BookResponseDTO book;
+}
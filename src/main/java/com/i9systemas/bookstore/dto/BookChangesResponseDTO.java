@@ -0,0 +1,20 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookChangesResponseDTO {
+
+    private List<BookChangeDTO> changes;
+    private int limit;
+    private boolean hasMore;
+
+    // Sempre presente: sem mudanças novas, repete o since recebido
+    private String nextCursor;
+}
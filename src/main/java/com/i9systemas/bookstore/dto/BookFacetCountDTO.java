@@ -0,0 +1,14 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacetCountDTO<T> {
+
+    private T valor;
+    private long total;
+}
@@ -0,0 +1,23 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookFacetsDTO {
+
+    private long total;
+    private long autoresDistintos;
+
+    // Os autores com mais livros (empate: ordem alfabética), até o limite pedido
+    private List<BookFacetCountDTO<String>> autores;
+
+    // Ordem crescente; décadas identificadas pelo primeiro ano (1990 = 1990 a 1999)
+    private List<BookFacetCountDTO<Integer>> anos;
+    private List<BookFacetCountDTO<Integer>> decadas;
+}
@@ -0,0 +1,30 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class BookImportReportDTO {
+
+    private int total;
+    private int created;
+    private int duplicates;
+    private int invalid;
+    private int failed;
+    private List<BookImportRowResultDTO> rows = new ArrayList<>();
+
+    public void add(BookImportRowResultDTO result) {
+        rows.add(result);
+        total++;
+        switch (result.getStatus()) {
+            case CREATED -> created++;
+            case DUPLICATE -> duplicates++;
+            case INVALID -> invalid++;
+            case FAILED -> failed++;
+        }
+    }
+}
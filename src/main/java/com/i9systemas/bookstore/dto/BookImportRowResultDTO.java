@@ -0,0 +1,26 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookImportRowResultDTO {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+
+    private int row;
+    private Status status;
+    private Long id;
+    private String isbn;
+    private List<String> messages;
+}
@@ -0,0 +1,18 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookPageResponseDTO {
+
+    private List<BookResponseDTO> content;
+    private int limit;
+    private boolean hasNext;
+    private String nextCursor;
+}
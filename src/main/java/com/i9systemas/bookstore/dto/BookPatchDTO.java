@@ -0,0 +1,56 @@
+package com.i9systemas.bookstore.dto;
+
+import com.i9systemas.bookstore.validation.Isbn;
+import com.i9systemas.bookstore.validation.ValidIsbn;
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Year;
+
+// Alteração parcial de um livro na atualização em lote: campos nulos mantêm o valor atual
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookPatchDTO {
+
+    @NotNull(message = "O ID é obrigatório")
+    private Long id;
+
+    // Opcional: versão esperada, como o If-Match da atualização individual
+    @PositiveOrZero(message = "A versão não pode ser negativa")
+    private Long version;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "O título não pode ser vazio")
+    @Size(max = 255, message = "O título deve ter entre 1 e 255 caracteres")
+    private String titulo;
+
+    @Pattern(regexp = "(?s).*\\S.*", message = "O autor não pode ser vazio")
+    @Size(max = 255, message = "O autor deve ter entre 1 e 255 caracteres")
+    private String autor;
+
+    @ValidIsbn
+    private String isbn;
+
+    @Min(value = 1000, message = "O ano de publicação deve ser maior que 1000")
+    @Max(value = 2100, message = "O ano de publicação não pode ser maior que 2100")
+    private Integer anoPublicacao;
+
+    @AssertTrue(message = "O ano de publicação não pode ser maior que o ano atual")
+    private boolean isAnoPublicacaoValid() {
+        if (anoPublicacao == null) {
+            return true;
+        }
+        return anoPublicacao <= Year.now().getValue();
+    }
+
+    @AssertTrue(message = "Informe ao menos um campo para alterar")
+    private boolean isAnyFieldPresent() {
+        return titulo != null || autor != null || isbn != null || anoPublicacao != null;
+    }
+
+    public String canonicalIsbn() {
+        return Isbn.normalize(isbn);
+    }
+}
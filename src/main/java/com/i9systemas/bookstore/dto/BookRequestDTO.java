@@ -1,5 +1,8 @@
 package com.i9systemas.bookstore.dto;
 
+import com.i9systemas.bookstore.model.Book;
+import com.i9systemas.bookstore.validation.Isbn;
+import com.i9systemas.bookstore.validation.ValidIsbn;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -21,8 +24,7 @@ public class BookRequestDTO {
     private String autor;
 
     @NotBlank(message = "O ISBN é obrigatório")
-    @Pattern(regexp = "^(?:ISBN(?:-1[03])?:? )?(?=[0-9X]{10}$|(?=(?:[0-9]+[- ]){3})[- 0-9X]{13}$|97[89][0-9]{10}$|(?=(?:[0-9]+[- ]){4})[- 0-9]{17}$)(?:97[89][- ]?)?[0-9]{1,5}[- ]?[0-9]+[- ]?[0-9]+[- ]?[0-9X]$",
-            message = "ISBN inválido")
+    @ValidIsbn
     private String isbn;
 
     @NotNull(message = "O ano de publicação é obrigatório")
@@ -37,4 +39,18 @@ public class BookRequestDTO {
         }
         return anoPublicacao <= Year.now().getValue();
     }
-}
\ No newline at end of file
+
+    public Book toEntity() {
+        Book book = new Book();
+        book.setTitulo(titulo);
+        book.setAutor(autor);
+        book.setIsbn(canonicalIsbn());
+        book.setAnoPublicacao(anoPublicacao);
+        return book;
+    }
+
+    // ISBN-13 sem separadores, a chave gravada no banco e usada nas buscas por ISBN
+    public String canonicalIsbn() {
+        return Isbn.normalize(isbn);
+    }
+}
@@ -19,6 +19,7 @@ public class BookResponseDTO {
     private Integer anoPublicacao;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public static BookResponseDTO fromEntity(Book book) {
         return new BookResponseDTO(
@@ -28,7 +29,8 @@ public class BookResponseDTO {
                 book.getIsbn(),
                 book.getAnoPublicacao(),
                 book.getCreatedAt(),
-                book.getUpdatedAt()
+                book.getUpdatedAt(),
+                book.getVersion()
         );
     }
 }
\ No newline at end of file
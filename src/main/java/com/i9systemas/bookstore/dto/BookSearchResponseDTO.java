@@ -0,0 +1,21 @@
+package com.i9systemas.bookstore.dto;
+
+import com.i9systemas.bookstore.search.SearchMode;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookSearchResponseDTO {
+
+    private String query;
+    private SearchMode mode;
+    private List<BookResponseDTO> content;
+    private int offset;
+    private int limit;
+    private boolean hasNext;
+}
@@ -0,0 +1,21 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookVersionDTO {
+
+    private Long id;
+    private Long version;
+    private LocalDateTime updatedAt;
+
+    public static BookVersionDTO fromResponse(BookResponseDTO book) {
+        return new BookVersionDTO(book.getId(), book.getVersion(), book.getUpdatedAt());
+    }
+}
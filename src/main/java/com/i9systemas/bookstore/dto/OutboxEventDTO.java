@@ -0,0 +1,36 @@
+package com.i9systemas.bookstore.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.i9systemas.bookstore.model.OutboxEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventDTO {
+
+    private Long id;
+    private Long position;
+    private String type;
+    private Long bookId;
+    private LocalDateTime createdAt;
+
+    // JSON já serializado na escrita; repassado sem desserializar
+    @JsonRawValue
+    private String payload;
+
+    public static OutboxEventDTO fromEntity(OutboxEvent event) {
+        return new OutboxEventDTO(
+                event.getId(),
+                event.getPosition(),
+                event.getType(),
+                event.getBookId(),
+                event.getCreatedAt(),
+                event.getPayload()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package com.i9systemas.bookstore.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxOffsetDTO {
+
+    private String consumer;
+    private Long offset;
+
+    // Posição do último evento publicado: lag = head - offset
+    private Long head;
+    private LocalDateTime updatedAt;
+}
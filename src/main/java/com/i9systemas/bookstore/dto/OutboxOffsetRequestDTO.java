@@ -0,0 +1,17 @@
+package com.i9systemas.bookstore.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxOffsetRequestDTO {
+
+    @NotNull(message = "O offset é obrigatório")
+    @PositiveOrZero(message = "O offset não pode ser negativo")
+    private Long offset;
+}
@@ -0,0 +1,37 @@
+package com.i9systemas.bookstore.event;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private Type type;
+    private Long bookId;
+
+    // Estado antes da mudança (null em CREATED; em DELETED, apenas se já estava em memória) e depois dela (null em DELETED)
+    private BookResponseDTO previous;
+    private BookResponseDTO current;
+
+    public static BookChangedEvent created(BookResponseDTO book) {
+        return new BookChangedEvent(Type.CREATED, book.getId(), null, book);
+    }
+
+    public static BookChangedEvent updated(BookResponseDTO previous, BookResponseDTO current) {
+        return new BookChangedEvent(Type.UPDATED, current.getId(), previous, current);
+    }
+
+    public static BookChangedEvent deleted(Long bookId, BookResponseDTO previous) {
+        return new BookChangedEvent(Type.DELETED, bookId, previous, null);
+    }
+}
@@ -5,4 +5,12 @@ public class BookNotFoundException extends RuntimeException {
     public BookNotFoundException(Long id) {
         super("Livro não encontrado com o ID: " + id);
     }
-}
\ No newline at end of file
+
+    private BookNotFoundException(String message) {
+        super(message);
+    }
+
+    public static BookNotFoundException byIsbn(String isbn) {
+        return new BookNotFoundException("Livro não encontrado com ISBN: " + isbn);
+    }
+}
@@ -0,0 +1,15 @@
+package com.i9systemas.bookstore.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,46 @@
+package com.i9systemas.bookstore.exception;
+
+import org.hibernate.exception.ConstraintViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+
+public class DuplicateIsbnException extends RuntimeException {
+
+    public static final String ISBN_CONSTRAINT = "uk_books_isbn";
+
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    public DuplicateIsbnException(String isbn) {
+        super("Já existe um livro cadastrado com o ISBN: " + isbn);
+    }
+
+    // Violação da constraint que chegou ao handler sem passar pelo serviço: o ISBN em conflito não é conhecido
+    public DuplicateIsbnException() {
+        super("Já existe um livro cadastrado com este ISBN");
+    }
+
+    // Pelo nome da constraint ou, quando ela tem outro nome (bancos criados com @Column(unique = true) antes de
+    // uk_books_isbn, mantidos pelo ddl-auto=update), pela violação de unicidade (SQLState 23505) na coluna isbn,
+    // que o PostgreSQL informa no detalhe da mensagem ("Key (isbn)=...") e o H2 na definição do índice
+    public static boolean isIsbnViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && mentionsIsbn(violation.getConstraintName())) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())
+                    && mentionsIsbn(sqlException.getMessage())) {
+                return true;
+            }
+            // Drivers fora do JDBC (R2DBC) só trazem a mensagem
+            if (cause.getCause() == null && !(cause instanceof SQLException)) {
+                return mentionsIsbn(cause.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private static boolean mentionsIsbn(String text) {
+        return text != null && text.toLowerCase(Locale.ROOT).contains("isbn");
+    }
+}
@@ -1,25 +1,52 @@
 package com.i9systemas.bookstore.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  private final Counter notFoundCounter;
+  private final Counter duplicateIsbnCounter;
+
+  public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+    this.notFoundCounter = Counter.builder("bookstore.books.not.found")
+            .description("Buscas por livro inexistente respondidas com 404")
+            .register(meterRegistry);
+    this.duplicateIsbnCounter = Counter.builder("bookstore.books.duplicate.isbn")
+            .description("Escritas rejeitadas por ISBN já cadastrado")
+            .register(meterRegistry);
+  }
+
   @ExceptionHandler(BookNotFoundException.class)
   public ResponseEntity<ErrorResponse> handleBookNotFoundException(
           BookNotFoundException ex, WebRequest request) {
 
+    notFoundCounter.increment();
     ErrorResponse error = new ErrorResponse(
             LocalDateTime.now(),
             HttpStatus.NOT_FOUND.value(),
@@ -31,6 +58,144 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler(DuplicateIsbnException.class)
+  public ResponseEntity<ErrorResponse> handleDuplicateIsbnException(
+          DuplicateIsbnException ex, WebRequest request) {
+
+    duplicateIsbnCounter.increment();
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+  }
+
+  @ExceptionHandler({ObjectOptimisticLockingFailureException.class, OptimisticLockException.class})
+  public ResponseEntity<ErrorResponse> handleOptimisticLockException(
+          Exception ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            "Conflict",
+            "O livro foi alterado por outra requisição; tente novamente",
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+  }
+
+  @ExceptionHandler({CannotCreateTransactionException.class, CannotGetJdbcConnectionException.class})
+  public ResponseEntity<ErrorResponse> handleDatabaseUnavailableException(
+          Exception ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            "Banco de dados indisponível ou sobrecarregado; tente novamente",
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceededException(
+          ConcurrencyLimitExceededException ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Service Unavailable",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(error);
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+          PreconditionFailedException ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.PRECONDITION_FAILED.value(),
+            "Precondition Failed",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+          InvalidCursorException ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(InvalidOutboxOffsetException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidOutboxOffsetException(
+          InvalidOutboxOffsetException ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler({JsonProcessingException.class, RuntimeJsonMappingException.class})
+  public ResponseEntity<ErrorResponse> handleMalformedJson(
+          Exception ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            "JSON inválido no corpo da requisição",
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler({MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class})
+  public ResponseEntity<ErrorResponse> handleInvalidRequestParameter(
+          Exception ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Bad Request",
+            "Parâmetro inválido ou ausente na requisição",
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+  }
+
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleValidationExceptions(
           MethodArgumentNotValidException ex, WebRequest request) {
@@ -60,26 +225,45 @@ public class GlobalExceptionHandler {
   public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
           DataIntegrityViolationException ex, WebRequest request) {
 
-    String message = "Erro de integridade de dados";
-    if (ex.getMessage().contains("isbn")) {
-      message = "ISBN já cadastrado no sistema";
+    // Mesmo 409 de DuplicateIsbnException, qualquer que seja o caminho da escrita
+    if (DuplicateIsbnException.isIsbnViolation(ex)) {
+      return handleDuplicateIsbnException(new DuplicateIsbnException(), request);
     }
 
     ErrorResponse error = new ErrorResponse(
             LocalDateTime.now(),
             HttpStatus.BAD_REQUEST.value(),
             "Bad Request",
-            message,
+            "Erro de integridade de dados",
             request.getDescription(false).replace("uri=", "")
     );
 
     return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
   }
 
+  // Formato do Accept sem conversor para a resposta (ex.: protobuf na busca). O corpo de erro segue o
+  // mesmo Accept; sem formato possível para ele, o Spring responde 406 sem corpo
+  @ExceptionHandler(HttpMediaTypeNotAcceptableException.class)
+  public ResponseEntity<ErrorResponse> handleMediaTypeNotAcceptableException(
+          HttpMediaTypeNotAcceptableException ex, WebRequest request) {
+
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.NOT_ACCEPTABLE.value(),
+            "Not Acceptable",
+            "Formato não disponível para este recurso; aceitos: " + ex.getSupportedMediaTypes(),
+            request.getDescription(false).replace("uri=", "")
+    );
+
+    return new ResponseEntity<>(error, HttpStatus.NOT_ACCEPTABLE);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ErrorResponse> handleGlobalException(
           Exception ex, WebRequest request) {
 
+    // Única pista de erros inesperados (deadlock, timeout, SQL inválido): o corpo da resposta é genérico
+    log.error("Erro não tratado em {}", request.getDescription(false), ex);
     ErrorResponse error = new ErrorResponse(
             LocalDateTime.now(),
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -0,0 +1,8 @@
+package com.i9systemas.bookstore.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor) {
+        super("Cursor de paginação inválido: " + cursor);
+    }
+}
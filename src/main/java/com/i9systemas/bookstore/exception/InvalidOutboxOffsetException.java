@@ -0,0 +1,8 @@
+package com.i9systemas.bookstore.exception;
+
+public class InvalidOutboxOffsetException extends RuntimeException {
+
+    public InvalidOutboxOffsetException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.i9systemas.bookstore.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(Long id) {
+        super("O livro com o ID " + id + " foi alterado por outra requisição (If-Match não confere)");
+    }
+}
@@ -0,0 +1,170 @@
+package com.i9systemas.bookstore.limiter;
+
+import com.i9systemas.bookstore.config.ConcurrencyLimitProperties;
+import com.i9systemas.bookstore.exception.ConcurrencyLimitExceededException;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Limite de requisições simultâneas de um grupo de endpoints, ajustado pela latência observada.
+ * A cada janela a latência média é comparada com a de referência: acima da tolerância o limite cai na
+ * proporção do aumento; abaixo dela, e com o limite de fato em uso, cresce cerca de √limite. Respostas 503
+ * do banco na janela reduzem o limite por um fator fixo. Quem excede o limite é rejeitado na hora, em vez
+ * de esperar na fila do Tomcat ou do Hikari.
+ * <p>
+ * A referência desce rápido quando a latência melhora e sobe devagar, para que uma sobrecarga longa não
+ * vire a nova linha de base.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double REFERENCE_DECREASE_WEIGHT = 0.1;
+    private static final double REFERENCE_INCREASE_WEIGHT = 0.005;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final String group;
+    private final ConcurrencyLimitProperties properties;
+    private final long retryAfterSeconds;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+
+    // Protegidos por this
+    private double limit;
+    private int inFlight;
+    private final Map<String, Integer> inFlightByClient = new HashMap<>();
+    private double referenceRttNanos;
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private long rejected;
+    private long rejectedByClient;
+
+    public AdaptiveConcurrencyLimit(String group, ConcurrencyLimitProperties properties) {
+        this(group, properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimit(String group, ConcurrencyLimitProperties properties, LongSupplier nanoClock) {
+        this.group = group;
+        this.properties = properties;
+        this.retryAfterSeconds = Math.max(1, (properties.getRetryAfter().toMillis() + 999) / 1000);
+        this.windowNanos = properties.getWindow().toNanos();
+        this.nanoClock = nanoClock;
+        this.limit = clamp(properties.getInitialLimit());
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    public Permit acquire(String client) {
+        synchronized (this) {
+            int current = (int) limit;
+            if (inFlight >= current) {
+                rejected++;
+                throw new ConcurrencyLimitExceededException("Limite de requisições simultâneas de " + group
+                        + " atingido; tente novamente em " + retryAfterSeconds + " s", retryAfterSeconds);
+            }
+            int clientInFlight = inFlightByClient.getOrDefault(client, 0);
+            if (inFlight >= current * properties.getFairShareThreshold() && clientInFlight >= fairShare(current, clientInFlight)) {
+                rejected++;
+                rejectedByClient++;
+                throw new ConcurrencyLimitExceededException("Cliente excedeu sua parte das requisições simultâneas de "
+                        + group + "; tente novamente em " + retryAfterSeconds + " s", retryAfterSeconds);
+            }
+            inFlight++;
+            inFlightByClient.put(client, clientInFlight + 1);
+            windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        }
+        return new Permit(client, nanoClock.getAsLong());
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized long getRejected() {
+        return rejected;
+    }
+
+    public synchronized long getRejectedByClient() {
+        return rejectedByClient;
+    }
+
+    // Limite dividido igualmente entre os clientes com requisições em andamento, contando quem está chegando
+    private int fairShare(int current, int clientInFlight) {
+        int activeClients = inFlightByClient.size() + (clientInFlight == 0 ? 1 : 0);
+        return Math.max(1, (current + activeClients - 1) / activeClients);
+    }
+
+    private synchronized void release(String client, long rttNanos, boolean dropped) {
+        inFlight--;
+        inFlightByClient.computeIfPresent(client, (key, count) -> count == 1 ? null : count - 1);
+
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowDropped |= dropped;
+        long now = nanoClock.getAsLong();
+        if (windowSamples < properties.getWindowSamples() || now - windowStart < windowNanos) {
+            return;
+        }
+        adjust((double) windowRttSum / windowSamples);
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = inFlight;
+        windowDropped = false;
+    }
+
+    private void adjust(double rttNanos) {
+        if (windowDropped) {
+            limit = clamp(limit * properties.getBackoffRatio());
+            return;
+        }
+        if (referenceRttNanos == 0) {
+            referenceRttNanos = rttNanos;
+        } else {
+            double weight = rttNanos < referenceRttNanos ? REFERENCE_DECREASE_WEIGHT : REFERENCE_INCREASE_WEIGHT;
+            referenceRttNanos += (rttNanos - referenceRttNanos) * weight;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, properties.getRttTolerance() * referenceRttNanos / rttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        // Com menos da metade do limite em uso, latência baixa não indica que caberia mais concorrência
+        if (target > limit && windowMaxInFlight < limit / 2) {
+            return;
+        }
+        limit = clamp(limit + (target - limit) * properties.getSmoothing());
+    }
+
+    private double clamp(double value) {
+        return Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), value));
+    }
+
+    public final class Permit {
+
+        private final String client;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(String client, long startNanos) {
+            this.client = client;
+            this.startNanos = startNanos;
+        }
+
+        // dropped: a requisição falhou por sobrecarga (503), sinal mais forte que a latência
+        public void release(boolean dropped) {
+            if (released) {
+                return;
+            }
+            released = true;
+            AdaptiveConcurrencyLimit.this.release(client, nanoClock.getAsLong() - startNanos, dropped);
+        }
+    }
+}
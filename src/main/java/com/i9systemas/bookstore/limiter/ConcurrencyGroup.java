@@ -0,0 +1,20 @@
+package com.i9systemas.bookstore.limiter;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Grupo de limite de concorrência do endpoint. Sem a anotação, GET e HEAD ficam em leitura e os
+// demais métodos em escrita; UNLIMITED deixa o endpoint fora do limitador
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyGroup {
+
+    String READ = "leitura";
+    String WRITE = "escrita";
+    String BULK = "lote";
+    String UNLIMITED = "";
+
+    String value();
+}
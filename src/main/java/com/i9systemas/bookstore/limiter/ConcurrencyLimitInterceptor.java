@@ -0,0 +1,75 @@
+package com.i9systemas.bookstore.limiter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Set;
+
+// Roda dentro do DispatcherServlet: a rejeição vira exceção tratada pelo GlobalExceptionHandler (503 com
+// Retry-After). A permissão fica na requisição até a resposta completa, inclusive em processamento assíncrono
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final ConcurrencyLimiter limiter;
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiter limiter, String clientHeader,
+                                       Collection<String> trustedProxies) {
+        this.limiter = limiter;
+        this.clientHeader = clientHeader;
+        this.trustedProxies = Set.copyOf(trustedProxies);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod method) || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+        String group = groupOf(request, method);
+        if (!group.isEmpty()) {
+            request.setAttribute(PERMIT_ATTRIBUTE, limiter.acquire(group, clientOf(request)));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof AdaptiveConcurrencyLimit.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.release(response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+    }
+
+    private static String groupOf(HttpServletRequest request, HandlerMethod method) {
+        ConcurrencyGroup group = method.getMethodAnnotation(ConcurrencyGroup.class);
+        if (group != null) {
+            return group.value();
+        }
+        String httpMethod = request.getMethod();
+        return "GET".equals(httpMethod) || "HEAD".equals(httpMethod) ? ConcurrencyGroup.READ : ConcurrencyGroup.WRITE;
+    }
+
+    // O cabeçalho é controlado por quem chama: aceito só de um proxy confiável, senão qualquer cliente
+    // escaparia da sua parte trocando de identificador a cada requisição
+    String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String remoteAddr = request.getRemoteAddr();
+        if (trustedProxies.contains(remoteAddr)) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return "header:" + client;
+            }
+        }
+        return "addr:" + remoteAddr;
+    }
+}
@@ -0,0 +1,52 @@
+package com.i9systemas.bookstore.limiter;
+
+import com.i9systemas.bookstore.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Um limite adaptativo independente por grupo de endpoints: escritas lentas ou lotes não reduzem o
+// limite das leituras. Os grupos são criados no primeiro uso
+public class ConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public AdaptiveConcurrencyLimit.Permit acquire(String group, String client) {
+        return limit(group).acquire(client);
+    }
+
+    public AdaptiveConcurrencyLimit limit(String group) {
+        return limits.computeIfAbsent(group, this::create);
+    }
+
+    private AdaptiveConcurrencyLimit create(String group) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(group, properties);
+        Gauge.builder("bookstore.limiter.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("Requisições simultâneas admitidas no grupo")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("bookstore.limiter.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("Requisições do grupo em andamento")
+                .tag("group", group)
+                .register(meterRegistry);
+        FunctionCounter.builder("bookstore.limiter.rejected", limit, l -> l.getRejected() - l.getRejectedByClient())
+                .description("Requisições rejeitadas com 503 por limite de concorrência")
+                .tags("group", group, "reason", "limit")
+                .register(meterRegistry);
+        FunctionCounter.builder("bookstore.limiter.rejected", limit, AdaptiveConcurrencyLimit::getRejectedByClient)
+                .description("Requisições rejeitadas com 503 por limite de concorrência")
+                .tags("group", group, "reason", "client")
+                .register(meterRegistry);
+        return limit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.i9systemas.bookstore.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// O corpo de um StreamingResponseBody roda em outra thread: ela continua a contagem iniciada pelo
+// SqlStatementMetricsFilter, que a registra no despacho assíncrono seguinte
+@RequiredArgsConstructor
+public class SqlStatementAsyncInterceptor implements CallableProcessingInterceptor {
+
+    private final SqlStatementCounter counter;
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object count = request.getAttribute(SqlStatementMetricsFilter.COUNT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (count instanceof AtomicInteger requestCount) {
+            counter.resume(requestCount);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        counter.detach();
+    }
+}
@@ -0,0 +1,46 @@
+package com.i9systemas.bookstore.metrics;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Conta os comandos SQL enviados ao banco na thread atual, entre start() e stop(). Os comandos são
+// registrados pelo StatementCountingDataSource, então valem para Hibernate, JdbcTemplate e scripts
+public class SqlStatementCounter {
+
+    private final ThreadLocal<AtomicInteger> current = new ThreadLocal<>();
+
+    public void increment() {
+        AtomicInteger count = current.get();
+        if (count != null) {
+            count.incrementAndGet();
+        }
+    }
+
+    public void start() {
+        current.set(new AtomicInteger());
+    }
+
+    // Contagem em andamento, para continuar em outra thread com resume() (ex.: StreamingResponseBody)
+    public AtomicInteger current() {
+        return current.get();
+    }
+
+    public void resume(AtomicInteger count) {
+        current.set(count);
+    }
+
+    // Deixa de contar na thread atual sem encerrar a contagem, que pode continuar em outra
+    public void detach() {
+        current.remove();
+    }
+
+    public int count() {
+        AtomicInteger count = current.get();
+        return count == null ? 0 : count.get();
+    }
+
+    public int stop() {
+        int count = count();
+        current.remove();
+        return count;
+    }
+}
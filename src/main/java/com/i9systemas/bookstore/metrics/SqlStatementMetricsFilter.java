@@ -0,0 +1,93 @@
+package com.i9systemas.bookstore.metrics;
+
+import com.i9systemas.bookstore.config.SqlStatementBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Registra quantos comandos SQL cada requisição executou, por rota, e acusa as que estouram o orçamento.
+// Em requisições assíncronas (StreamingResponseBody) a contagem segue para a thread do corpo da resposta
+// (SqlStatementAsyncInterceptor) e só é registrada no despacho assíncrono final
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String METRIC_NAME = "bookstore.http.sql.statements";
+    public static final String BUDGET_EXCEEDED_METRIC_NAME = "bookstore.http.sql.budget.exceeded";
+    // Contagem da requisição entre despachos
+    static final String COUNT_ATTRIBUTE = SqlStatementMetricsFilter.class.getName() + ".count";
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementBudgetProperties budget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicInteger count = (AtomicInteger) request.getAttribute(COUNT_ATTRIBUTE);
+        if (count == null) {
+            counter.start();
+            request.setAttribute(COUNT_ATTRIBUTE, counter.current());
+        } else {
+            counter.resume(count);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                counter.detach();
+            } else {
+                record(request, counter.stop());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        DistributionSummary.builder(METRIC_NAME)
+                .description("Comandos SQL enviados ao banco por requisição")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(1_000.0)
+                .register(meterRegistry)
+                .record(statements);
+        checkBudget(request.getMethod(), uri, statements);
+    }
+
+    private void checkBudget(String method, String uri, int statements) {
+        if (!budget.isEnabled()) {
+            return;
+        }
+        int limit = budget.budgetFor(method, uri);
+        if (statements <= limit) {
+            return;
+        }
+        log.warn("{} {} executou {} comandos SQL (orçamento: {})", method, uri, statements, limit);
+        Counter.builder(BUDGET_EXCEEDED_METRIC_NAME)
+                .description("Requisições que executaram mais comandos SQL que o orçamento da rota")
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -4,18 +4,28 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "books")
+@Table(name = "books", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_books_isbn", columnNames = "isbn")
+}, indexes = {
+        @Index(name = "idx_books_change_seq", columnList = "change_seq"),
+        @Index(name = "idx_books_ano_publicacao", columnList = "ano_publicacao"),
+        @Index(name = "idx_books_autor", columnList = "autor")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Book {
 
+    // Sequence com alocação em bloco (pooled) permite que o Hibernate agrupe INSERTs em lotes JDBC
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "books_seq")
+    @SequenceGenerator(name = "books_seq", sequenceName = "books_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -24,7 +34,7 @@ public class Book {
     @Column(nullable = false)
     private String autor;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String isbn;
 
     @Column(nullable = false)
@@ -36,14 +46,25 @@ public class Book {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Controle de concorrência otimista: UPDATE ... WHERE id = ? AND version = ?
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Posição da última mudança no feed (GET /api/livros/changes), gravada apenas pelo publicador do outbox
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Precisão de microssegundos, a mesma da coluna: o valor em memória é idêntico ao relido do banco (ETag)
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        updatedAt = createdAt;
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.i9systemas.bookstore.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Marca de remoção no feed de mudanças: o livro não existe mais, mas a remoção precisa ser entregue
+@Entity
+@Table(name = "book_tombstones", indexes = {
+        @Index(name = "idx_book_tombstones_change_seq", columnList = "change_seq")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookTombstone {
+
+    @Id
+    @Column(name = "book_id")
+    private Long bookId;
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,27 @@
+package com.i9systemas.bookstore.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_outbox_offsets")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxConsumerOffset {
+
+    @Id
+    @Column(length = 100)
+    private String consumer;
+
+    // Última posição processada pelo consumidor (0 = nenhuma)
+    @Column(name = "last_position", nullable = false)
+    private Long lastPosition;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,63 @@
+package com.i9systemas.bookstore.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@Entity
+@Table(name = "book_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_book_outbox_position", columnNames = "position"),
+        indexes = {
+                @Index(name = "idx_book_outbox_published_at", columnList = "published_at"),
+                @Index(name = "idx_book_outbox_record_seq", columnList = "record_seq")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_outbox_seq")
+    @SequenceGenerator(name = "book_outbox_seq", sequenceName = "book_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String type;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    // BookChangedEvent serializado em JSON
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Ordem de gravação, atribuída pelo banco no INSERT. Ids vêm em blocos de 50 por instância e não seguem
+    // a ordem das transações; já o INSERT acontece depois da escrita no livro, com a linha dele travada até o
+    // commit, então dois eventos do mesmo livro sempre recebem valores na ordem em que foram confirmados
+    @Column(name = "record_seq", insertable = false, updatable = false, columnDefinition = "BIGSERIAL")
+    private Long recordSeq;
+
+    // Posição no log publicado, atribuída em ordem pelo publicador (null = pendente)
+    private Long position;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    public OutboxEvent(String type, Long bookId, String payload) {
+        this.type = type;
+        this.bookId = bookId;
+        this.payload = payload;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
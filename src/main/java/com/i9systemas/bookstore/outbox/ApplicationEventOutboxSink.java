@@ -0,0 +1,18 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void publish(List<OutboxEventDTO> events) {
+        events.forEach(eventPublisher::publishEvent);
+    }
+}
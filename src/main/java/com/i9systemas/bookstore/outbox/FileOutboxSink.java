@@ -0,0 +1,46 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper, Path path) {
+        this.objectMapper = objectMapper;
+        this.path = path;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxEventDTO> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 512);
+        for (OutboxEventDTO event : events) {
+            objectMapper.writeValue(buffer, event);
+            buffer.write('\n');
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // Um write e um fsync por lote: só marca como publicado o que já está em disco
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+}
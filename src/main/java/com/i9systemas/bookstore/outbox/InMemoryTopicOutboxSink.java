@@ -0,0 +1,35 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tópico append-only em memória, no lugar de um broker em desenvolvimento e testes.
+ * Repetições do mesmo evento (reentrega) aparecem como entradas duplicadas, como num broker real.
+ */
+public class InMemoryTopicOutboxSink implements OutboxSink {
+
+    private final List<OutboxEventDTO> log = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxEventDTO> events) {
+        log.addAll(events);
+    }
+
+    public synchronized List<OutboxEventDTO> read(int from, int maxEvents) {
+        if (from >= log.size()) {
+            return List.of();
+        }
+        return List.copyOf(log.subList(from, Math.min(log.size(), from + maxEvents)));
+    }
+
+    public synchronized int size() {
+        return log.size();
+    }
+
+    public synchronized void clear() {
+        log.clear();
+    }
+}
@@ -0,0 +1,130 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.model.OutboxEvent;
+import com.i9systemas.bookstore.repository.OutboxEventRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import com.i9systemas.bookstore.search.InMemoryBookSearchEngine;
+import com.i9systemas.bookstore.service.BookFacetService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Acompanha o log publicado do outbox em cada instância e aplica aos estados em memória (cache de leitura,
+ * índice de busca em memória e resumo de facetas) as mudanças feitas por outros escritores do banco: outras
+ * instâncias e a variante reativa. Os eventos gravados por esta instância já foram aplicados no commit e
+ * são ignorados. A leitura começa na posição publicada quando a aplicação sobe, pois os estados em memória
+ * começam vazios ou são reconstruídos a partir do banco.
+ */
+@Slf4j
+public class OutboxChangeFollower {
+
+    // Mais do que o atraso esperado entre gravar um evento e vê-lo publicado; se expirar antes,
+    // o evento local é reaplicado, o que só custa uma falta no cache
+    private static final Duration LOCAL_EVENT_RETENTION = Duration.ofMinutes(10);
+    private static final long MAX_LOCAL_EVENTS = 100_000;
+
+    private final OutboxEventRepository eventRepository;
+    private final ObjectMapper objectMapper;
+    private final BookCache bookCache;
+    private final SingleFlight<Object, BookResponseDTO> bookLookups;
+    private final BookSearchEngine bookSearchEngine;
+    private final BookFacetService facetService;
+    private final int batchSize;
+    private final Counter applied;
+    private final Cache<Long, Boolean> localEvents = Caffeine.newBuilder()
+            .expireAfterWrite(LOCAL_EVENT_RETENTION)
+            .maximumSize(MAX_LOCAL_EVENTS)
+            .build();
+
+    // Última posição aplicada; null até a subida terminar
+    private volatile Long lastPosition;
+
+    public OutboxChangeFollower(OutboxEventRepository eventRepository, ObjectMapper objectMapper, BookCache bookCache,
+                                SingleFlight<Object, BookResponseDTO> bookLookups, BookSearchEngine bookSearchEngine,
+                                BookFacetService facetService, int batchSize, MeterRegistry meterRegistry) {
+        this.eventRepository = eventRepository;
+        this.objectMapper = objectMapper;
+        this.bookCache = bookCache;
+        this.bookLookups = bookLookups;
+        this.bookSearchEngine = bookSearchEngine;
+        this.facetService = facetService;
+        this.batchSize = batchSize;
+        this.applied = Counter.builder("bookstore.outbox.followed")
+                .description("Mudanças de outros escritores aplicadas aos caches desta instância")
+                .register(meterRegistry);
+    }
+
+    // Antes do ApplicationReadyEvent, que reconstrói o índice de busca em memória: o que for publicado
+    // entre as duas leituras é reaplicado, sem lacuna
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        lastPosition = eventRepository.findLastPosition();
+    }
+
+    // Chamado por OutboxService.record para cada evento gravado nesta instância
+    public void recordedLocally(Long eventId) {
+        localEvents.put(eventId, Boolean.TRUE);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.outbox.follow-interval-ms:500}")
+    public synchronized void follow() {
+        if (lastPosition == null) {
+            return;
+        }
+        try {
+            List<OutboxEvent> events;
+            do {
+                events = eventRepository.findPublishedAfter(lastPosition, PageRequest.of(0, batchSize));
+                for (OutboxEvent event : events) {
+                    if (localEvents.asMap().remove(event.getId()) == null) {
+                        apply(event);
+                        applied.increment();
+                    }
+                    lastPosition = event.getPosition();
+                }
+            } while (events.size() == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Falha ao acompanhar o outbox; nova tentativa em seguida: {}", ex.getMessage());
+        }
+    }
+
+    private void apply(OutboxEvent event) {
+        // Um ISBN antigo que ainda aponte para o livro é descartado na próxima leitura por ISBN
+        bookCache.evict(event.getBookId());
+        bookLookups.forget(event.getBookId());
+        facetService.invalidate();
+
+        BookChangedEvent change;
+        try {
+            change = objectMapper.readValue(event.getPayload(), BookChangedEvent.class);
+        } catch (JsonProcessingException ex) {
+            log.warn("Evento {} do outbox ilegível; apenas o cache foi invalidado: {}", event.getId(), ex.getMessage());
+            return;
+        }
+        if (change.getPrevious() != null) {
+            bookLookups.forget(change.getPrevious().getIsbn());
+        }
+        if (change.getCurrent() != null) {
+            bookLookups.forget(change.getCurrent().getIsbn());
+        }
+        if (bookSearchEngine instanceof InMemoryBookSearchEngine inMemory) {
+            inMemory.onBookChanged(change);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.i9systemas.bookstore.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Drena o outbox em lotes, cada um em sua transação. Uma falha no sink desfaz o lote, que volta
+ * a ser tentado na próxima rodada.
+ */
+@Slf4j
+public class OutboxPublisher {
+
+    private final OutboxService outboxService;
+    private final Counter published;
+    private final Counter failures;
+
+    public OutboxPublisher(OutboxService outboxService, MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.published = Counter.builder("bookstore.outbox.published")
+                .description("Eventos do outbox entregues ao sink")
+                .register(meterRegistry);
+        this.failures = Counter.builder("bookstore.outbox.publish.failures")
+                .description("Lotes do outbox desfeitos por falha no sink")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.outbox.poll-interval-ms:500}")
+    public void publishPending() {
+        try {
+            int count;
+            do {
+                count = outboxService.publishBatch();
+                published.increment(count);
+            } while (count > 0);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Falha ao publicar eventos do outbox; nova tentativa em seguida: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bookstore.outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        int removed = outboxService.purgePublished();
+        if (removed > 0) {
+            log.info("{} eventos publicados removidos do outbox", removed);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+
+import java.util.List;
+
+/**
+ * Destino dos eventos do outbox. Recebe lotes em ordem de posição; uma exceção desfaz a publicação
+ * do lote inteiro, que é reenviado na próxima rodada (entrega pelo menos uma vez: consumidores
+ * devem tolerar repetições, identificadas pelo id).
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxEventDTO> events) throws Exception;
+}
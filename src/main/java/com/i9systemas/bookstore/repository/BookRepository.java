@@ -1,30 +1,52 @@
 package com.i9systemas.bookstore.repository;
 
+import com.i9systemas.bookstore.dto.BookVersionDTO;
 import com.i9systemas.bookstore.model.Book;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, BookResponseQueries {
 
-    @Query("SELECT b FROM Book b WHERE b.isbn = :isbn")
-    Optional<Book> findByIsbn(@Param("isbn") String isbn);
-
-    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Book b WHERE b.isbn = :isbn")
-    boolean existsByIsbn(@Param("isbn") String isbn);
-
-    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM Book b WHERE b.isbn = :isbn AND b.id <> :id")
-    boolean existsByIsbnAndIdNot(@Param("isbn") String isbn, @Param("id") Long id);
+    int STREAM_FETCH_SIZE = 500;
 
     @Query("SELECT b FROM Book b WHERE b.id = :id")
     Optional<Book> findBookById(@Param("id") Long id);
 
+    // Remoção: o estado removido vai no evento, então nenhuma escrita concorrente pode mudá-lo entre a leitura e o DELETE
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id = :id")
+    Optional<Book> findForUpdate(@Param("id") Long id);
+
+    // Chamada fora de transação pelo BookService em GET condicional: readOnly para poder ir a uma réplica
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.i9systemas.bookstore.dto.BookVersionDTO(b.id, b.version, b.updatedAt) FROM Book b WHERE b.id = :id")
+    Optional<BookVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT new com.i9systemas.bookstore.dto.BookVersionDTO(b.id, b.version, b.updatedAt) FROM Book b WHERE b.id IN :ids")
+    List<BookVersionDTO> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Modifying
     @Query("DELETE FROM Book b WHERE b.id = :id")
-    void deleteBookById(@Param("id") Long id);
+    int deleteBookById(@Param("id") Long id);
+
+    @Query("SELECT b FROM Book b WHERE b.changeSeq > :since ORDER BY b.changeSeq")
+    List<Book> findChangedSince(@Param("since") Long since, Pageable pageable);
+
+    @Query("SELECT b FROM Book b WHERE b.id IN :ids")
+    List<Book> findAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT b.isbn FROM Book b WHERE b.isbn IN :isbns")
+    List<String> findExistingIsbns(@Param("isbns") Collection<String> isbns);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.i9systemas.bookstore.repository;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Leituras projetadas direto no DTO: o Hibernate monta BookResponseDTO a partir do result set, sem entidade
+// gerenciada no contexto de persistência, snapshot ou dirty checking
+public interface BookResponseQueries {
+
+    Optional<BookResponseDTO> findResponseById(Long id);
+
+    Optional<BookResponseDTO> findResponseByIsbn(String isbn);
+
+    List<BookResponseDTO> findResponsesByIdIn(Collection<Long> ids);
+
+    List<BookResponseDTO> findResponsesByIsbnIn(Collection<String> isbns);
+
+    List<BookResponseDTO> findAllResponses();
+
+    List<BookResponseDTO> findResponsePageAfter(Long afterId, Pageable pageable);
+
+    Stream<BookResponseDTO> streamAllResponsesOrderById();
+}
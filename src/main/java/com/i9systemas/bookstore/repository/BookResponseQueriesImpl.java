@@ -0,0 +1,73 @@
+package com.i9systemas.bookstore.repository;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// Consultas tipadas direto no EntityManager: um método @Query do Spring Data com retorno DTO custa mais
+// alocação por chamada (reprocessa a consulta e o resultado) do que o próprio Hibernate para montar a linha.
+// readOnly porque o BookService chama as buscas por ID/ISBN fora de transação, após falta no cache; quando o
+// resultado vai para o cache, o BookService as prende ao primário (usePrimary), senão podem ir a uma réplica
+@Transactional(readOnly = true)
+class BookResponseQueriesImpl implements BookResponseQueries {
+
+    private static final String PROJECTION = "SELECT new com.i9systemas.bookstore.dto.BookResponseDTO("
+            + "b.id, b.titulo, b.autor, b.isbn, b.anoPublicacao, b.createdAt, b.updatedAt, b.version) FROM Book b";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<BookResponseDTO> findResponseById(Long id) {
+        return query(" WHERE b.id = :id").setParameter("id", id).getResultStream().findFirst();
+    }
+
+    @Override
+    public Optional<BookResponseDTO> findResponseByIsbn(String isbn) {
+        return query(" WHERE b.isbn = :isbn").setParameter("isbn", isbn).getResultStream().findFirst();
+    }
+
+    @Override
+    public List<BookResponseDTO> findResponsesByIdIn(Collection<Long> ids) {
+        return query(" WHERE b.id IN :ids").setParameter("ids", ids).getResultList();
+    }
+
+    @Override
+    public List<BookResponseDTO> findResponsesByIsbnIn(Collection<String> isbns) {
+        return query(" WHERE b.isbn IN :isbns").setParameter("isbns", isbns).getResultList();
+    }
+
+    @Override
+    public List<BookResponseDTO> findAllResponses() {
+        return query("").getResultList();
+    }
+
+    @Override
+    public List<BookResponseDTO> findResponsePageAfter(Long afterId, Pageable pageable) {
+        return query(" WHERE b.id > :afterId ORDER BY b.id")
+                .setParameter("afterId", afterId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    @Override
+    public Stream<BookResponseDTO> streamAllResponsesOrderById() {
+        return query(" ORDER BY b.id")
+                .setHint(HibernateHints.HINT_FETCH_SIZE, BookRepository.STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private TypedQuery<BookResponseDTO> query(String condition) {
+        return entityManager.createQuery(PROJECTION + condition, BookResponseDTO.class);
+    }
+}
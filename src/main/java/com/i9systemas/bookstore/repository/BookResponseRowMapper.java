@@ -0,0 +1,34 @@
+package com.i9systemas.bookstore.repository;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+public class BookResponseRowMapper implements RowMapper<BookResponseDTO> {
+
+    public static final String COLUMNS = "id, titulo, autor, isbn, ano_publicacao, created_at, updated_at, version";
+
+    public static final BookResponseRowMapper INSTANCE = new BookResponseRowMapper();
+
+    @Override
+    public BookResponseDTO mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new BookResponseDTO(
+                rs.getLong("id"),
+                rs.getString("titulo"),
+                rs.getString("autor"),
+                rs.getString("isbn"),
+                rs.getInt("ano_publicacao"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("updated_at")),
+                rs.getLong("version")
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
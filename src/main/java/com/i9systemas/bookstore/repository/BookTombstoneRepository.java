@@ -0,0 +1,23 @@
+package com.i9systemas.bookstore.repository;
+
+import com.i9systemas.bookstore.model.BookTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookTombstoneRepository extends JpaRepository<BookTombstone, Long> {
+
+    @Query("SELECT t FROM BookTombstone t WHERE t.changeSeq > :since ORDER BY t.changeSeq")
+    List<BookTombstone> findChangedSince(@Param("since") Long since, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM BookTombstone t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
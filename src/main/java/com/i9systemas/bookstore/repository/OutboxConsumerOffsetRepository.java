@@ -0,0 +1,19 @@
+package com.i9systemas.bookstore.repository;
+
+import com.i9systemas.bookstore.model.OutboxConsumerOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface OutboxConsumerOffsetRepository extends JpaRepository<OutboxConsumerOffset, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxConsumerOffset o WHERE o.consumer = :consumer")
+    Optional<OutboxConsumerOffset> findForUpdate(@Param("consumer") String consumer);
+}
@@ -0,0 +1,33 @@
+package com.i9systemas.bookstore.repository;
+
+import com.i9systemas.bookstore.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Pela ordem de gravação, não pelo id: publica os eventos de um mesmo livro na ordem de commit
+    @Query("SELECT e FROM OutboxEvent e WHERE e.position IS NULL ORDER BY e.recordSeq")
+    List<OutboxEvent> findPending(Pageable pageable);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.position > :after ORDER BY e.position")
+    List<OutboxEvent> findPublishedAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.position), 0) FROM OutboxEvent e")
+    long findLastPosition();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.position IS NULL")
+    long countPending();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,11 @@
+package com.i9systemas.bookstore.search;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+
+import java.util.List;
+
+public interface BookSearchEngine {
+
+    // Retorna até limit + 1 resultados a partir de offset, para o chamador saber se há próxima página
+    List<BookResponseDTO> search(String query, SearchMode mode, int offset, int limit);
+}
@@ -0,0 +1,250 @@
+package com.i9systemas.bookstore.search;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.repository.BookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@RequiredArgsConstructor
+public class InMemoryBookSearchEngine implements BookSearchEngine {
+
+    private static final double TITULO_WEIGHT = 1.0;
+    private static final double AUTOR_WEIGHT = 0.4;
+    private static final int TRIGRAM = 3;
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    private static final Comparator<IndexedBook> ID_ORDER = Comparator.comparing(book -> book.book().getId());
+
+    private final BookRepository bookRepository;
+
+    private final Map<Long, IndexedBook> books = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<String, Set<Long>> trigrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<BookResponseDTO> page;
+        long afterId = 0L;
+        do {
+            page = bookRepository.findResponsePageAfter(afterId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            for (BookResponseDTO book : page) {
+                index(book);
+                afterId = book.getId();
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (event.getType() == BookChangedEvent.Type.DELETED) {
+            remove(event.getBookId());
+        } else {
+            index(event.getCurrent());
+        }
+    }
+
+    public void index(BookResponseDTO book) {
+        IndexedBook indexed = new IndexedBook(book);
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(book.getId());
+            books.put(book.getId(), indexed);
+            indexed.terms().forEach(term -> postings.computeIfAbsent(term, key -> new HashSet<>()).add(book.getId()));
+            indexed.trigrams().forEach(gram -> trigrams.computeIfAbsent(gram, key -> new HashSet<>()).add(book.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<BookResponseDTO> search(String query, SearchMode mode, int offset, int limit) {
+        int wanted = offset + limit + 1;
+        lock.readLock().lock();
+        try {
+            List<String> terms = SearchTokenizer.tokenize(query);
+            List<IndexedBook> matches = switch (mode) {
+                case FULLTEXT -> top(matchTerms(terms, false), wanted, rankOrder(terms));
+                case PREFIX -> top(matchTerms(terms, true), wanted, ID_ORDER);
+                case SUBSTRING -> top(matchSubstring(query.trim().toLowerCase(Locale.ROOT)), wanted, ID_ORDER);
+            };
+            return matches.stream()
+                    .skip(offset)
+                    .map(IndexedBook::book)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Interseção a partir da menor lista de postings: o custo acompanha o termo mais seletivo, não o catálogo
+    private List<Long> matchTerms(List<String> terms, boolean prefixLastTerm) {
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        List<Set<Long>> postingSets = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            if (prefixLastTerm && i == terms.size() - 1) {
+                postingSets.add(prefixPostings(term));
+            } else {
+                postingSets.add(postings.getOrDefault(term, Set.of()));
+            }
+        }
+        return intersect(postingSets);
+    }
+
+    private Set<Long> prefixPostings(String prefix) {
+        NavigableMap<String, Set<Long>> range = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.size() == 1) {
+            return range.firstEntry().getValue();
+        }
+        Set<Long> ids = new HashSet<>();
+        range.values().forEach(ids::addAll);
+        return ids;
+    }
+
+    private List<Long> matchSubstring(String needle) {
+        if (needle.isEmpty()) {
+            return List.of();
+        }
+        Collection<Long> candidates;
+        if (needle.length() < TRIGRAM) {
+            candidates = books.keySet();
+        } else {
+            candidates = intersect(trigramsOf(needle).stream()
+                    .map(gram -> trigrams.getOrDefault(gram, Set.of()))
+                    .toList());
+        }
+        List<Long> result = new ArrayList<>();
+        for (Long id : candidates) {
+            IndexedBook book = books.get(id);
+            if (book.titulo().contains(needle) || book.autor().contains(needle)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> intersect(List<Set<Long>> sets) {
+        List<Set<Long>> bySize = new ArrayList<>(sets);
+        bySize.sort(Comparator.comparingInt(Set::size));
+        List<Long> result = new ArrayList<>();
+        outer:
+        for (Long id : bySize.get(0)) {
+            for (int i = 1; i < bySize.size(); i++) {
+                if (!bySize.get(i).contains(id)) {
+                    continue outer;
+                }
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    // Seleção parcial com heap limitado: O(m log k) em vez de ordenar todos os m resultados
+    private List<IndexedBook> top(Collection<Long> ids, int wanted, Comparator<IndexedBook> order) {
+        PriorityQueue<IndexedBook> heap = new PriorityQueue<>(Math.max(1, wanted), order.reversed());
+        for (Long id : ids) {
+            heap.offer(books.get(id));
+            if (heap.size() > wanted) {
+                heap.poll();
+            }
+        }
+        List<IndexedBook> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    private static Comparator<IndexedBook> rankOrder(List<String> terms) {
+        Map<IndexedBook, Double> scores = new IdentityHashMap<>();
+        return Comparator.comparingDouble((IndexedBook book) -> -scores.computeIfAbsent(book, b -> b.score(terms)))
+                .thenComparing(ID_ORDER);
+    }
+
+    private void removeUnlocked(Long id) {
+        IndexedBook previous = books.remove(id);
+        if (previous == null) {
+            return;
+        }
+        previous.terms().forEach(term -> removePosting(postings, term, id));
+        previous.trigrams().forEach(gram -> removePosting(trigrams, gram, id));
+    }
+
+    private static void removePosting(Map<String, Set<Long>> index, String key, Long id) {
+        Set<Long> ids = index.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static Set<String> trigramsOf(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + TRIGRAM));
+        }
+        return grams;
+    }
+
+    private record IndexedBook(BookResponseDTO book, String titulo, String autor,
+                               List<String> tituloTerms, List<String> autorTerms) {
+
+        IndexedBook(BookResponseDTO book) {
+            this(book,
+                    book.getTitulo().toLowerCase(Locale.ROOT),
+                    book.getAutor().toLowerCase(Locale.ROOT),
+                    SearchTokenizer.tokenize(book.getTitulo()),
+                    SearchTokenizer.tokenize(book.getAutor()));
+        }
+
+        Set<String> terms() {
+            Set<String> terms = new HashSet<>(tituloTerms);
+            terms.addAll(autorTerms);
+            return terms;
+        }
+
+        Set<String> trigrams() {
+            Set<String> grams = trigramsOf(titulo);
+            grams.addAll(trigramsOf(autor));
+            return grams;
+        }
+
+        double score(List<String> terms) {
+            double score = 0;
+            for (String term : terms) {
+                score += TITULO_WEIGHT * tituloTerms.stream().filter(term::equals).count();
+                score += AUTOR_WEIGHT * autorTerms.stream().filter(term::equals).count();
+            }
+            return score;
+        }
+    }
+}
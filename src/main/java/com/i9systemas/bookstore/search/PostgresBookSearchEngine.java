@@ -0,0 +1,90 @@
+package com.i9systemas.bookstore.search;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.repository.BookResponseRowMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptException;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+public class PostgresBookSearchEngine implements BookSearchEngine {
+
+    // Deve ser idêntica à expressão dos índices em db/search-indexes.sql para que o GIN seja usado
+    static final String DOCUMENT = "(setweight(to_tsvector('simple', titulo), 'A') "
+            + "|| setweight(to_tsvector('simple', autor), 'B'))";
+
+    private static final String SELECT = "SELECT " + BookResponseRowMapper.COLUMNS + " FROM books ";
+
+    private static final String FULLTEXT_SQL = SELECT
+            + "WHERE " + DOCUMENT + " @@ to_tsquery('simple', :tsquery) "
+            + "ORDER BY ts_rank(" + DOCUMENT + ", to_tsquery('simple', :tsquery)) DESC, id "
+            + "LIMIT :limit OFFSET :offset";
+
+    private static final String SUBSTRING_SQL = SELECT
+            + "WHERE lower(titulo) LIKE :pattern ESCAPE '\\' OR lower(autor) LIKE :pattern ESCAPE '\\' "
+            + "ORDER BY id "
+            + "LIMIT :limit OFFSET :offset";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final boolean createIndexes;
+
+    // CREATE INDEX CONCURRENTLY não roda dentro de transação: conexão própria em autocommit. Uma falha
+    // (ex.: usuário sem permissão para criar a extensão) não derruba a aplicação, que já está atendendo;
+    // sem os índices, a busca continua correta, só mais lenta
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/search-indexes.sql"));
+        } catch (SQLException | ScriptException ex) {
+            log.warn("Índices de busca não criados; aplique db/search-indexes.sql como migração: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public List<BookResponseDTO> search(String query, SearchMode mode, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("limit", limit + 1)
+                .addValue("offset", offset);
+
+        if (mode == SearchMode.SUBSTRING) {
+            params.addValue("pattern", "%" + escapeLike(query.trim().toLowerCase(Locale.ROOT)) + "%");
+            return jdbcTemplate.query(SUBSTRING_SQL, params, BookResponseRowMapper.INSTANCE);
+        }
+
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        params.addValue("tsquery", toTsQuery(terms, mode == SearchMode.PREFIX));
+        return jdbcTemplate.query(FULLTEXT_SQL, params, BookResponseRowMapper.INSTANCE);
+    }
+
+    // Os termos já passaram pelo tokenizador (apenas letras e dígitos), então não há sintaxe de tsquery a escapar
+    static String toTsQuery(List<String> terms, boolean prefix) {
+        String tsquery = terms.stream().collect(Collectors.joining(" & "));
+        return prefix ? tsquery + ":*" : tsquery;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
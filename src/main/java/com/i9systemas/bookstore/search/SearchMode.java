@@ -0,0 +1,7 @@
+package com.i9systemas.bookstore.search;
+
+public enum SearchMode {
+    PREFIX,
+    SUBSTRING,
+    FULLTEXT
+}
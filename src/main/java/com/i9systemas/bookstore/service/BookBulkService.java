@@ -0,0 +1,299 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.config.BookBulkProperties;
+import com.i9systemas.bookstore.dto.BookBulkDeleteDTO;
+import com.i9systemas.bookstore.dto.BookBulkItemResultDTO;
+import com.i9systemas.bookstore.dto.BookBulkItemResultDTO.Status;
+import com.i9systemas.bookstore.dto.BookBulkReportDTO;
+import com.i9systemas.bookstore.dto.BookPatchDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.dto.BookVersionDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.model.Book;
+import com.i9systemas.bookstore.repository.BookRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Atualização parcial e remoção em lote. Cada bloco de itens roda numa transação com uma leitura
+ * (SELECT ... IN) e um único lote JDBC de escrita, em vez de uma leitura, uma escrita e uma transação
+ * por livro. Falhas de um item não desfazem os demais; o relatório traz o resultado de cada um.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookBulkService {
+
+    private static final String UPDATE_SQL = "UPDATE books SET titulo = ?, autor = ?, isbn = ?, ano_publicacao = ?, "
+            + "updated_at = ?, version = version + 1 WHERE id = ? AND version = ?";
+    private static final String DELETE_SQL = "DELETE FROM books WHERE id = ?";
+    private static final String DELETE_VERSION_SQL = "DELETE FROM books WHERE id = ? AND version = ?";
+
+    private final BookRepository bookRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final BookCache bookCache;
+    private final SingleFlight<Object, BookResponseDTO> bookLookups;
+    private final BookBulkProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookBulkReportDTO patch(Iterator<BookPatchDTO> patches) {
+        return process(patches, BookPatchDTO::getId, this::patchChunk);
+    }
+
+    public BookBulkReportDTO delete(Iterator<BookBulkDeleteDTO> items) {
+        return process(items, BookBulkDeleteDTO::getId, this::deleteChunk);
+    }
+
+    private <T> BookBulkReportDTO process(Iterator<T> items, Function<T, Long> idOf, Consumer<List<BulkItem<T>>> writer) {
+        BookBulkReportDTO report = new BookBulkReportDTO();
+        Set<Long> seenIds = new HashSet<>();
+        List<BulkItem<T>> chunk = new ArrayList<>(properties.getChunkSize());
+        int number = 0;
+        while (items.hasNext()) {
+            T request = items.next();
+            BulkItem<T> item = new BulkItem<>(++number, request == null ? null : idOf.apply(request), request);
+            validate(item, seenIds);
+            chunk.add(item);
+            if (chunk.size() == properties.getChunkSize()) {
+                writeChunk(chunk, writer, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, writer, report);
+        }
+        return report;
+    }
+
+    private <T> void validate(BulkItem<T> item, Set<Long> seenIds) {
+        if (item.request == null) {
+            item.resolve(Status.INVALID, null, List.of("Item vazio"));
+            return;
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(item.request);
+        if (!violations.isEmpty()) {
+            item.resolve(Status.INVALID, null, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.toList()));
+        } else if (!seenIds.add(item.id)) {
+            item.resolve(Status.INVALID, null, List.of("ID repetido no lote: " + item.id));
+        }
+    }
+
+    private <T> void writeChunk(List<BulkItem<T>> chunk, Consumer<List<BulkItem<T>>> writer, BookBulkReportDTO report) {
+        List<BulkItem<T>> pending = chunk.stream().filter(item -> item.status == null).toList();
+        if (!pending.isEmpty()) {
+            // Invalida antes e depois do commit, como BookService, para que leituras concorrentes
+            // não deixem o estado anterior no cache (o alias por ISBN é validado pelo ID)
+            pending.forEach(item -> bookCache.evict(item.id));
+            try {
+                transactionTemplate.executeWithoutResult(status -> writer.accept(pending));
+            } catch (DataAccessException ex) {
+                // A transação do bloco foi desfeita (ex.: ISBN gravado por outro escritor entre a consulta e o
+                // UPDATE): cada item é refeito na própria transação e só o item com problema fica de fora
+                for (BulkItem<T> item : pending) {
+                    item.resolve(null, null, List.of());
+                    writeItem(item, writer);
+                }
+            }
+            pending.forEach(item -> bookCache.evict(item.id));
+            // ISBNs alterados ou removidos não são conhecidos aqui: descarta todas as buscas em andamento
+            bookLookups.forgetAll();
+        }
+        chunk.forEach(item -> report.add(item.toResult()));
+    }
+
+    private <T> void writeItem(BulkItem<T> item, Consumer<List<BulkItem<T>>> writer) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writer.accept(List.of(item)));
+        } catch (DataAccessException ex) {
+            if (DuplicateIsbnException.isIsbnViolation(ex)) {
+                item.resolve(Status.DUPLICATE, null, List.of(new DuplicateIsbnException().getMessage()));
+            } else {
+                item.resolve(Status.FAILED, null, List.of("Erro ao gravar o item: " + ex.getMostSpecificCause().getMessage()));
+            }
+        }
+    }
+
+    private void patchChunk(List<BulkItem<BookPatchDTO>> items) {
+        Map<Long, Book> current = bookRepository.findAllByIdIn(items.stream().map(item -> item.id).toList()).stream()
+                .collect(Collectors.toMap(Book::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        List<PatchedBook> candidates = new ArrayList<>();
+        for (BulkItem<BookPatchDTO> item : items) {
+            Book book = current.get(item.id);
+            BookPatchDTO patch = item.request;
+            if (book == null) {
+                item.resolve(Status.NOT_FOUND, null, List.of("Livro não encontrado com ID: " + item.id));
+            } else if (patch.getVersion() != null && !patch.getVersion().equals(book.getVersion())) {
+                item.resolve(Status.CONFLICT, null, List.of("Versão atual do livro: " + book.getVersion()));
+            } else {
+                BookResponseDTO previous = BookResponseDTO.fromEntity(book);
+                BookResponseDTO next = new BookResponseDTO(book.getId(),
+                        Objects.requireNonNullElse(patch.getTitulo(), book.getTitulo()),
+                        Objects.requireNonNullElse(patch.getAutor(), book.getAutor()),
+                        patch.getIsbn() == null ? book.getIsbn() : patch.canonicalIsbn(),
+                        Objects.requireNonNullElse(patch.getAnoPublicacao(), book.getAnoPublicacao()),
+                        book.getCreatedAt(), now, book.getVersion() + 1);
+                if (sameContent(previous, next)) {
+                    item.resolve(Status.UNCHANGED, book.getVersion(), List.of());
+                } else {
+                    candidates.add(new PatchedBook(item, previous, next));
+                }
+            }
+        }
+
+        // Unicidade do ISBN: o banco já reflete os blocos anteriores confirmados; dentro do bloco,
+        // vence o primeiro item. Um ISBN ainda em uso é recusado mesmo que o dono o troque no mesmo lote
+        List<String> changedIsbns = candidates.stream()
+                .filter(PatchedBook::isbnChanged)
+                .map(candidate -> candidate.next.getIsbn())
+                .toList();
+        Set<String> taken = changedIsbns.isEmpty() ? Set.of() : new HashSet<>(bookRepository.findExistingIsbns(changedIsbns));
+        Set<String> claimed = new HashSet<>();
+        List<PatchedBook> writes = new ArrayList<>(candidates.size());
+        for (PatchedBook candidate : candidates) {
+            String isbn = candidate.next.getIsbn();
+            if (candidate.isbnChanged() && (taken.contains(isbn) || !claimed.add(isbn))) {
+                candidate.item.resolve(Status.DUPLICATE, null, List.of("Já existe um livro cadastrado com o ISBN: " + isbn));
+            } else {
+                writes.add(candidate);
+            }
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        Timestamp updatedAt = Timestamp.valueOf(now);
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, writes.stream()
+                .map(write -> new Object[]{write.next.getTitulo(), write.next.getAutor(), write.next.getIsbn(),
+                        write.next.getAnoPublicacao(), updatedAt, write.next.getId(), write.previous.getVersion()})
+                .toList());
+        for (int i = 0; i < writes.size(); i++) {
+            PatchedBook write = writes.get(i);
+            if (counts[i] == 0) {
+                // Alterado por outra transação entre a leitura do bloco e o UPDATE
+                write.item.resolve(Status.CONFLICT, null, List.of("Livro alterado concorrentemente"));
+            } else {
+                write.item.resolve(Status.UPDATED, write.next.getVersion(), List.of());
+                eventPublisher.publishEvent(BookChangedEvent.updated(write.previous, write.next));
+            }
+        }
+    }
+
+    private void deleteChunk(List<BulkItem<BookBulkDeleteDTO>> items) {
+        List<BulkItem<BookBulkDeleteDTO>> unconditional = items.stream()
+                .filter(item -> item.request.getVersion() == null)
+                .toList();
+        List<BulkItem<BookBulkDeleteDTO>> conditional = items.stream()
+                .filter(item -> item.request.getVersion() != null)
+                .toList();
+        List<BulkItem<BookBulkDeleteDTO>> rejected = new ArrayList<>();
+        resolveDeletes(unconditional, batchUpdate(DELETE_SQL, unconditional.stream()
+                .map(item -> new Object[]{item.id})
+                .toList()), rejected);
+        resolveDeletes(conditional, batchUpdate(DELETE_VERSION_SQL, conditional.stream()
+                .map(item -> new Object[]{item.id, item.request.getVersion()})
+                .toList()), rejected);
+        if (rejected.isEmpty()) {
+            return;
+        }
+
+        // Uma consulta para todos os recusados distingue livro inexistente de versão diferente
+        Map<Long, Long> versions = bookRepository.findVersionsByIdIn(rejected.stream().map(item -> item.id).toList())
+                .stream()
+                .collect(Collectors.toMap(BookVersionDTO::getId, BookVersionDTO::getVersion));
+        for (BulkItem<BookBulkDeleteDTO> item : rejected) {
+            Long version = versions.get(item.id);
+            if (version == null) {
+                item.resolve(Status.NOT_FOUND, null, List.of("Livro não encontrado com ID: " + item.id));
+            } else {
+                item.resolve(Status.CONFLICT, null, List.of("Versão atual do livro: " + version));
+            }
+        }
+    }
+
+    private void resolveDeletes(List<BulkItem<BookBulkDeleteDTO>> items, int[] counts,
+                                List<BulkItem<BookBulkDeleteDTO>> rejected) {
+        for (int i = 0; i < items.size(); i++) {
+            BulkItem<BookBulkDeleteDTO> item = items.get(i);
+            if (counts[i] == 0) {
+                rejected.add(item);
+            } else {
+                item.resolve(Status.DELETED, null, List.of());
+                eventPublisher.publishEvent(BookChangedEvent.deleted(item.id, null));
+            }
+        }
+    }
+
+    private int[] batchUpdate(String sql, List<Object[]> args) {
+        return args.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    private static boolean sameContent(BookResponseDTO a, BookResponseDTO b) {
+        return a.getTitulo().equals(b.getTitulo())
+                && a.getAutor().equals(b.getAutor())
+                && a.getIsbn().equals(b.getIsbn())
+                && a.getAnoPublicacao().equals(b.getAnoPublicacao());
+    }
+
+    private record PatchedBook(BulkItem<BookPatchDTO> item, BookResponseDTO previous, BookResponseDTO next) {
+
+        private boolean isbnChanged() {
+            return !next.getIsbn().equals(previous.getIsbn());
+        }
+    }
+
+    private static final class BulkItem<T> {
+
+        private final int number;
+        private final Long id;
+        private final T request;
+        private Status status;
+        private Long version;
+        private List<String> messages = List.of();
+
+        private BulkItem(int number, Long id, T request) {
+            this.number = number;
+            this.id = id;
+            this.request = request;
+        }
+
+        private void resolve(Status status, Long version, List<String> messages) {
+            this.status = status;
+            this.version = version;
+            this.messages = messages;
+        }
+
+        private BookBulkItemResultDTO toResult() {
+            return new BookBulkItemResultDTO(number, id, status, version, messages);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookChangeDTO;
+import com.i9systemas.bookstore.dto.BookChangesResponseDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.model.Book;
+import com.i9systemas.bookstore.model.BookTombstone;
+import com.i9systemas.bookstore.model.OutboxEvent;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.repository.BookTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feed de mudanças ordenado por books.change_seq e book_tombstones.change_seq. As posições vêm do
+ * publicador do outbox, que as atribui em série e sob lock: uma posição só fica visível depois de
+ * todas as anteriores, então avançar o cursor nunca pula uma mudança confirmada depois.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookChangeFeedService {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final BookRepository bookRepository;
+    private final BookTombstoneRepository tombstoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    // Chamado pelo publicador do outbox na transação que atribui as posições do lote
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(List<OutboxEvent> events) {
+        // Várias mudanças do mesmo livro no lote: vale a última
+        Map<Long, OutboxEvent> latest = new LinkedHashMap<>();
+        for (OutboxEvent event : events) {
+            latest.put(event.getBookId(), event);
+        }
+        List<Object[]> changed = new ArrayList<>();
+        List<Object[]> deleted = new ArrayList<>();
+        for (OutboxEvent event : latest.values()) {
+            if (BookChangedEvent.Type.DELETED.name().equals(event.getType())) {
+                deleted.add(new Object[]{event.getBookId(), event.getPosition(), Timestamp.valueOf(event.getCreatedAt())});
+            } else {
+                changed.add(new Object[]{event.getPosition(), event.getBookId()});
+            }
+        }
+        // UPDATE direto na coluna: não incrementa version nem conflita com o controle otimista
+        if (!changed.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE books SET change_seq = ? WHERE id = ?", changed);
+        }
+        if (!deleted.isEmpty()) {
+            jdbcTemplate.batchUpdate("INSERT INTO book_tombstones (book_id, change_seq, deleted_at) VALUES (?, ?, ?)", deleted);
+        }
+    }
+
+    // Mesma retenção do outbox: um cliente com cursor mais antigo que isso refaz a carga inicial
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int purgeTombstones(LocalDateTime before) {
+        return tombstoneRepository.deleteDeletedBefore(before);
+    }
+
+    @Transactional(readOnly = true)
+    public BookChangesResponseDTO changesSince(String since, Integer limit) {
+        long sinceSequence = since == null || since.isBlank() ? 0L : PageCursor.decodeChange(since);
+        int pageLimit = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        // Duas varreduras de índice a partir do cursor, intercaladas por posição
+        PageRequest page = PageRequest.of(0, pageLimit + 1);
+        List<Book> books = bookRepository.findChangedSince(sinceSequence, page);
+        List<BookTombstone> tombstones = tombstoneRepository.findChangedSince(sinceSequence, page);
+
+        List<BookChangeDTO> changes = new ArrayList<>(Math.min(pageLimit + 1, books.size() + tombstones.size()));
+        int b = 0;
+        int t = 0;
+        while (changes.size() <= pageLimit && (b < books.size() || t < tombstones.size())) {
+            if (t == tombstones.size()
+                    || (b < books.size() && books.get(b).getChangeSeq() < tombstones.get(t).getChangeSeq())) {
+                Book book = books.get(b++);
+                changes.add(new BookChangeDTO(book.getChangeSeq(), BookChangeDTO.Type.UPSERT, book.getId(),
+                        book.getUpdatedAt(), BookResponseDTO.fromEntity(book)));
+            } else {
+                BookTombstone tombstone = tombstones.get(t++);
+                changes.add(new BookChangeDTO(tombstone.getChangeSeq(), BookChangeDTO.Type.DELETE,
+                        tombstone.getBookId(), tombstone.getDeletedAt(), null));
+            }
+        }
+
+        boolean hasMore = changes.size() > pageLimit;
+        List<BookChangeDTO> content = hasMore ? changes.subList(0, pageLimit) : changes;
+        long nextSequence = content.isEmpty() ? sinceSequence : content.get(content.size() - 1).getSequence();
+        return new BookChangesResponseDTO(new ArrayList<>(content), pageLimit, hasMore, PageCursor.encodeChange(nextSequence));
+    }
+}
@@ -0,0 +1,68 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.dto.BookVersionDTO;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+public final class BookETag {
+
+    private BookETag() {
+    }
+
+    // A coluna version muda a cada escrita confirmada, então id + version identifica o estado do livro
+    public static String of(BookVersionDTO version) {
+        return version.getId() + "-" + version.getVersion();
+    }
+
+    public static String of(BookResponseDTO book) {
+        return of(BookVersionDTO.fromResponse(book));
+    }
+
+    public static String ofPage(List<BookResponseDTO> books, String nextCursor) {
+        StringBuilder state = new StringBuilder(books.size() * 24);
+        for (BookResponseDTO book : books) {
+            state.append(of(book)).append(',');
+        }
+        state.append(nextCursor);
+        return DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static long lastModified(LocalDateTime updatedAt) {
+        return updatedAt == null ? -1L : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // Comparação forte (RFC 9110): ETags fracas nunca casam com If-Match
+    public static boolean matches(String ifMatch, String currentETag) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals("\"" + currentETag + "\"") || value.equals(currentETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Versão de um If-Match com uma única ETag forte deste livro ("id-version"); null para "*",
+    // listas, ETags fracas ou de outro recurso, que exigem comparar com o estado atual
+    public static Long version(String ifMatch, Long id) {
+        String value = ifMatch.trim();
+        if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+            return null;
+        }
+        String prefix = id + "-";
+        String eTag = value.substring(1, value.length() - 1);
+        if (!eTag.startsWith(prefix)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eTag.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
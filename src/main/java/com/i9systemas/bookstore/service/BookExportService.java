@@ -0,0 +1,148 @@
+package com.i9systemas.bookstore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.repository.BookResponseRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exportação do catálogo direto de um cursor forward-only para o stream de saída: cada linha é
+ * mapeada, escrita e descartada, então o heap usado não depende do número de livros.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    static final String CSV_HEADER = "id,titulo,autor,isbn,anoPublicacao,createdAt,updatedAt,version";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // A transação mantém a conexão fora de autocommit: sem isso o driver do PostgreSQL ignora o fetch size
+    // e carrega o resultado inteiro
+    @Transactional(readOnly = true)
+    public long export(OutputStream outputStream, Format format, Integer anoMin, Integer anoMax) throws IOException {
+        List<Object> params = new ArrayList<>(2);
+        StringBuilder sql = new StringBuilder("SELECT " + BookResponseRowMapper.COLUMNS + " FROM books WHERE 1 = 1");
+        if (anoMin != null) {
+            sql.append(" AND ano_publicacao >= ?");
+            params.add(anoMin);
+        }
+        if (anoMax != null) {
+            sql.append(" AND ano_publicacao <= ?");
+            params.add(anoMax);
+        }
+        sql.append(" ORDER BY id");
+
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(BookRepository.STREAM_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        };
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long[] count = new long[1];
+        try {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write("\r\n");
+                jdbcTemplate.query(statement, rs -> {
+                    writeCsv(writer, BookResponseRowMapper.INSTANCE.mapRow(rs, 0));
+                    count[0]++;
+                });
+            } else {
+                // Sem close: fechar o SequenceWriter fecharia o stream de saída, que pertence ao chamador
+                SequenceWriter json = objectMapper.writerFor(BookResponseDTO.class)
+                        .withRootValueSeparator("\n")
+                        .writeValues(writer);
+                jdbcTemplate.query(statement, rs -> {
+                    try {
+                        json.write(BookResponseRowMapper.INSTANCE.mapRow(rs, 0));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                    count[0]++;
+                });
+                json.flush();
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+        return count[0];
+    }
+
+    private static void writeCsv(Writer writer, BookResponseDTO book) {
+        try {
+            writer.write(String.valueOf(book.getId()));
+            writer.write(',');
+            writeCsvField(writer, book.getTitulo());
+            writer.write(',');
+            writeCsvField(writer, book.getAutor());
+            writer.write(',');
+            writer.write(book.getIsbn());
+            writer.write(',');
+            writer.write(String.valueOf(book.getAnoPublicacao()));
+            writer.write(',');
+            writer.write(book.getCreatedAt() == null ? "" : book.getCreatedAt().toString());
+            writer.write(',');
+            writer.write(book.getUpdatedAt() == null ? "" : book.getUpdatedAt().toString());
+            writer.write(',');
+            writer.write(String.valueOf(book.getVersion()));
+            writer.write("\r\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // RFC 4180: campos com vírgula, aspas ou quebra de linha vão entre aspas, com aspas duplicadas
+    static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
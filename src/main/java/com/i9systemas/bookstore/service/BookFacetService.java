@@ -0,0 +1,212 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.config.BookFacetProperties;
+import com.i9systemas.bookstore.dto.BookFacetCountDTO;
+import com.i9systemas.bookstore.dto.BookFacetsDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+/**
+ * Contagens de livros por autor, ano e década de publicação, calculadas no banco com GROUP BY. Com o
+ * resumo em memória habilitado, as contagens completas são carregadas uma vez e ajustadas a cada escrita
+ * confirmada; a resposta de cada limite fica pronta até a próxima escrita. Quando uma remoção não traz o
+ * estado anterior do livro, o resumo é descartado e recarregado na leitura seguinte.
+ */
+@Service
+public class BookFacetService {
+
+    public static final int DEFAULT_AUTHOR_LIMIT = 20;
+    public static final int MAX_AUTHOR_LIMIT = 1000;
+
+    private static final String YEAR_COUNTS =
+            "SELECT ano_publicacao, COUNT(*) FROM books GROUP BY ano_publicacao";
+    private static final String AUTHOR_COUNTS = "SELECT autor, COUNT(*) FROM books GROUP BY autor";
+    private static final String TOP_AUTHORS = AUTHOR_COUNTS + " ORDER BY COUNT(*) DESC, autor LIMIT ?";
+    private static final String DISTINCT_AUTHORS = "SELECT COUNT(DISTINCT autor) FROM books";
+
+    private static final Comparator<Map.Entry<String, Long>> AUTHOR_ORDER =
+            Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookFacetProperties properties;
+    // Consultas de um mesmo snapshot; sem readOnly para o resumo vir do primário, nunca de uma réplica atrasada
+    private final TransactionTemplate snapshot;
+
+    // Resumo: null quando precisa ser recarregado. Protegido pelo monitor desta instância
+    private Map<String, Long> authors;
+    private NavigableMap<Integer, Long> years;
+    private final Map<Integer, BookFacetsDTO> responses = new HashMap<>();
+    // Transações com alteração de livro em andamento e total de alterações concluídas: o resumo recarregado
+    // só é instalado se nenhuma alteração começou ou terminou durante a recarga
+    private int inFlight;
+    private long generation;
+
+    public BookFacetService(JdbcTemplate jdbcTemplate, BookFacetProperties properties,
+                            TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.snapshot = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public BookFacetsDTO facets(Integer limit) {
+        int authorLimit = limit == null ? DEFAULT_AUTHOR_LIMIT : Math.max(1, Math.min(limit, MAX_AUTHOR_LIMIT));
+        if (!properties.isSummaryEnabled()) {
+            return snapshot.execute(status -> queryFacets(authorLimit));
+        }
+
+        long observed;
+        synchronized (this) {
+            if (authors != null) {
+                return responses.computeIfAbsent(authorLimit, this::fromSummary);
+            }
+            observed = generation;
+        }
+        Summary loaded = snapshot.execute(status -> new Summary(loadAuthors(), loadYears()));
+        synchronized (this) {
+            if (authors == null && inFlight == 0 && generation == observed) {
+                authors = loaded.authors();
+                years = loaded.years();
+                responses.clear();
+                return responses.computeIfAbsent(authorLimit, this::fromSummary);
+            }
+        }
+        return toFacets(loaded.authors(), loaded.years(), authorLimit);
+    }
+
+    // Descarta o resumo após escritas que não passam pelos serviços (SQL direto, outra instância)
+    public synchronized void invalidate() {
+        generation++;
+        authors = null;
+        years = null;
+        responses.clear();
+    }
+
+    // Ajusta o resumo depois do commit da transação que publicou o evento
+    @EventListener
+    public void onBookChanged(BookChangedEvent event) {
+        if (!properties.isSummaryEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            completed(event, true);
+            return;
+        }
+        synchronized (this) {
+            inFlight++;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (BookFacetService.this) {
+                    inFlight--;
+                }
+                completed(event, status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private synchronized void completed(BookChangedEvent event, boolean committed) {
+        generation++;
+        if (!committed || authors == null) {
+            return;
+        }
+        responses.clear();
+        BookResponseDTO previous = event.getPrevious();
+        BookResponseDTO current = event.getCurrent();
+        if (event.getType() != BookChangedEvent.Type.CREATED && previous == null) {
+            authors = null;
+            years = null;
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        if (current != null) {
+            add(current, 1);
+        }
+    }
+
+    private void add(BookResponseDTO book, long delta) {
+        authors.merge(book.getAutor(), delta, (count, change) -> count + change == 0 ? null : count + change);
+        years.merge(book.getAnoPublicacao(), delta, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    private BookFacetsDTO fromSummary(int authorLimit) {
+        return toFacets(authors, years, authorLimit);
+    }
+
+    private BookFacetsDTO queryFacets(int authorLimit) {
+        List<BookFacetCountDTO<String>> topAuthors = jdbcTemplate.query(TOP_AUTHORS,
+                (rs, rowNum) -> new BookFacetCountDTO<>(rs.getString(1), rs.getLong(2)), authorLimit);
+        Long distinctAuthors = jdbcTemplate.queryForObject(DISTINCT_AUTHORS, Long.class);
+        NavigableMap<Integer, Long> yearCounts = loadYears();
+        return new BookFacetsDTO(total(yearCounts), distinctAuthors == null ? 0 : distinctAuthors, topAuthors,
+                counts(yearCounts), counts(decades(yearCounts)));
+    }
+
+    private Map<String, Long> loadAuthors() {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query(AUTHOR_COUNTS, rs -> {
+            counts.put(rs.getString(1), rs.getLong(2));
+        });
+        return counts;
+    }
+
+    private NavigableMap<Integer, Long> loadYears() {
+        NavigableMap<Integer, Long> counts = new TreeMap<>();
+        jdbcTemplate.query(YEAR_COUNTS, rs -> {
+            counts.put(rs.getInt(1), rs.getLong(2));
+        });
+        return counts;
+    }
+
+    private static BookFacetsDTO toFacets(Map<String, Long> authors, NavigableMap<Integer, Long> years, int authorLimit) {
+        // Heap com os N maiores: O(autores × log N) em vez de ordenar todos
+        PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(authorLimit + 1, AUTHOR_ORDER.reversed());
+        for (Map.Entry<String, Long> entry : authors.entrySet()) {
+            top.add(entry);
+            if (top.size() > authorLimit) {
+                top.poll();
+            }
+        }
+        List<BookFacetCountDTO<String>> topAuthors = new ArrayList<>(top.size());
+        top.stream().sorted(AUTHOR_ORDER).forEach(entry -> topAuthors.add(new BookFacetCountDTO<>(entry.getKey(), entry.getValue())));
+        return new BookFacetsDTO(total(years), authors.size(), topAuthors, counts(years), counts(decades(years)));
+    }
+
+    private static NavigableMap<Integer, Long> decades(NavigableMap<Integer, Long> years) {
+        NavigableMap<Integer, Long> decades = new TreeMap<>();
+        years.forEach((year, count) -> decades.merge(Math.floorDiv(year, 10) * 10, count, Long::sum));
+        return decades;
+    }
+
+    private static List<BookFacetCountDTO<Integer>> counts(NavigableMap<Integer, Long> counts) {
+        List<BookFacetCountDTO<Integer>> result = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> result.add(new BookFacetCountDTO<>(value, count)));
+        return result;
+    }
+
+    private static long total(Map<Integer, Long> years) {
+        return years.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private record Summary(Map<String, Long> authors, NavigableMap<Integer, Long> years) {
+    }
+}
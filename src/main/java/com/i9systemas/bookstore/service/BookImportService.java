@@ -0,0 +1,165 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.config.BookImportProperties;
+import com.i9systemas.bookstore.dto.BookImportReportDTO;
+import com.i9systemas.bookstore.dto.BookImportRowResultDTO;
+import com.i9systemas.bookstore.dto.BookImportRowResultDTO.Status;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.model.Book;
+import com.i9systemas.bookstore.repository.BookRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class BookImportService {
+
+    private final BookRepository bookRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final BookImportProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookImportReportDTO importBooks(Iterator<BookRequestDTO> books) {
+        BookImportReportDTO report = new BookImportReportDTO();
+        List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+        int rowNumber = 0;
+
+        while (books.hasNext()) {
+            chunk.add(validate(++rowNumber, books.next()));
+            if (chunk.size() == properties.getChunkSize()) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+        return report;
+    }
+
+    private ImportRow validate(int rowNumber, BookRequestDTO requestDTO) {
+        ImportRow row = new ImportRow(rowNumber, requestDTO);
+        Set<ConstraintViolation<BookRequestDTO>> violations = validator.validate(requestDTO);
+        if (!violations.isEmpty()) {
+            List<String> messages = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.toList());
+            row.resolve(Status.INVALID, null, messages);
+        }
+        return row;
+    }
+
+    private void importChunk(List<ImportRow> chunk, BookImportReportDTO report) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+        } catch (DataAccessException | PersistenceException ex) {
+            // A transação do lote foi desfeita (ex.: ISBN gravado por outro escritor entre a consulta e o
+            // INSERT): cada linha válida é refeita na própria transação e só a linha com problema fica de fora.
+            // O flush explícito lança a exceção do Hibernate, sem a tradução para DataAccessException
+            for (ImportRow row : chunk) {
+                if (row.status != Status.INVALID) {
+                    row.resolve(null, null, List.of());
+                    importRow(row);
+                }
+            }
+        }
+        chunk.forEach(row -> report.add(row.toResult()));
+    }
+
+    private void importRow(ImportRow row) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(List.of(row)));
+        } catch (DataAccessException | PersistenceException ex) {
+            if (DuplicateIsbnException.isIsbnViolation(ex)) {
+                row.resolve(Status.DUPLICATE, null,
+                        List.of("Já existe um livro cadastrado com o ISBN: " + row.request.canonicalIsbn()));
+            } else {
+                row.resolve(Status.FAILED, null,
+                        List.of("Erro ao gravar a linha: " + NestedExceptionUtils.getMostSpecificCause(ex).getMessage()));
+            }
+        }
+    }
+
+    private void insertChunk(List<ImportRow> chunk) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getBatchSize());
+
+        List<String> isbns = chunk.stream()
+                .filter(row -> row.status == null)
+                .map(row -> row.request.canonicalIsbn())
+                .collect(Collectors.toList());
+        Set<String> existingIsbns = isbns.isEmpty()
+                ? Set.of()
+                : new HashSet<>(bookRepository.findExistingIsbns(isbns));
+
+        Set<String> chunkIsbns = new HashSet<>();
+        List<ImportRow> inserted = new ArrayList<>();
+        for (ImportRow row : chunk) {
+            if (row.status != null) {
+                continue;
+            }
+            String isbn = row.request.canonicalIsbn();
+            if (existingIsbns.contains(isbn) || !chunkIsbns.add(isbn)) {
+                row.resolve(Status.DUPLICATE, null, List.of("Já existe um livro cadastrado com o ISBN: " + isbn));
+                continue;
+            }
+            row.book = row.request.toEntity();
+            entityManager.persist(row.book);
+            inserted.add(row);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        inserted.forEach(row -> {
+            eventPublisher.publishEvent(BookChangedEvent.created(BookResponseDTO.fromEntity(row.book)));
+            row.resolve(Status.CREATED, row.book.getId(), List.of());
+            row.book = null;
+        });
+    }
+
+    private static final class ImportRow {
+
+        private final int number;
+        private final BookRequestDTO request;
+        private Book book;
+        private Status status;
+        private Long id;
+        private List<String> messages = List.of();
+
+        private ImportRow(int number, BookRequestDTO request) {
+            this.number = number;
+            this.request = request;
+        }
+
+        private void resolve(Status status, Long id, List<String> messages) {
+            this.status = status;
+            this.id = id;
+            this.messages = messages;
+        }
+
+        private BookImportRowResultDTO toResult() {
+            return new BookImportRowResultDTO(number, status, id, request.getIsbn(), messages);
+        }
+    }
+}
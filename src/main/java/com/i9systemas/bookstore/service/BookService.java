@@ -1,86 +1,361 @@
 package com.i9systemas.bookstore.service;
 
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.datasource.ReadReplicaRoutingDataSource;
+import com.i9systemas.bookstore.dto.BookBatchGetItemDTO;
+import com.i9systemas.bookstore.dto.BookBatchGetResponseDTO;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
 import com.i9systemas.bookstore.dto.BookRequestDTO;
 import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.dto.BookSearchResponseDTO;
+import com.i9systemas.bookstore.dto.BookVersionDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
 import com.i9systemas.bookstore.exception.BookNotFoundException;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.exception.PreconditionFailedException;
 import com.i9systemas.bookstore.model.Book;
 import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import com.i9systemas.bookstore.search.SearchMode;
+import com.i9systemas.bookstore.validation.Isbn;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "bookstore.service", description = "Tempo de execução dos métodos de BookService", histogram = true)
 public class BookService {
 
+    public static final int DEFAULT_PAGE_LIMIT = 50;
+    public static final int MAX_PAGE_LIMIT = 1000;
+    public static final int DEFAULT_SEARCH_LIMIT = 20;
+    public static final int MAX_SEARCH_LIMIT = 100;
+    public static final int MAX_SEARCH_OFFSET = 10_000;
+    // Chaves por IN: mantém o plano estável e longe do limite de parâmetros do driver
+    public static final int BATCH_GET_CHUNK_SIZE = 500;
+
     private final BookRepository bookRepository;
+    private final BookCache bookCache;
+    private final SingleFlight<Object, BookResponseDTO> bookLookups;
+    private final BookSearchEngine bookSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public BookResponseDTO create(BookRequestDTO requestDTO) {
-        if (bookRepository.existsByIsbn(requestDTO.getIsbn())) {
-            throw new IllegalArgumentException("Já existe um livro cadastrado com o ISBN: " + requestDTO.getIsbn());
-        }
-
-        Book book = new Book();
-        book.setTitulo(requestDTO.getTitulo());
-        book.setAutor(requestDTO.getAutor());
-        book.setIsbn(requestDTO.getIsbn());
-        book.setAnoPublicacao(requestDTO.getAnoPublicacao());
-
-        Book savedBook = bookRepository.save(book);
-        return BookResponseDTO.fromEntity(savedBook);
+        // A constraint única de ISBN é a garantia real: um único INSERT, sem consulta prévia
+        Book savedBook = saveAndFlush(requestDTO.toEntity());
+        invalidateCache(savedBook.getId(), savedBook.getIsbn());
+        BookResponseDTO response = BookResponseDTO.fromEntity(savedBook);
+        eventPublisher.publishEvent(BookChangedEvent.created(response));
+        return response;
     }
 
     @Transactional(readOnly = true)
     public List<BookResponseDTO> findAll() {
-        return bookRepository.findAll()
-                .stream()
-                .map(BookResponseDTO::fromEntity)
-                .collect(Collectors.toList());
+        return bookRepository.findAllResponses();
     }
 
     @Transactional(readOnly = true)
-    public BookResponseDTO findById(Long id) {
-        Book book = bookRepository.findBookById(id)
-                .orElseThrow(() -> new BookNotFoundException(id));
-        return BookResponseDTO.fromEntity(book);
+    public BookPageResponseDTO findPage(String after, Integer limit) {
+        long afterId = after == null || after.isBlank() ? 0L : PageCursor.decode(after);
+        int pageLimit = limit == null ? DEFAULT_PAGE_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_LIMIT));
+
+        // Busca um registro a mais para saber se existe próxima página sem COUNT
+        List<BookResponseDTO> books = bookRepository.findResponsePageAfter(afterId, PageRequest.of(0, pageLimit + 1));
+        boolean hasNext = books.size() > pageLimit;
+        List<BookResponseDTO> content = hasNext ? books.subList(0, pageLimit) : books;
+
+        String nextCursor = hasNext ? PageCursor.encode(content.get(content.size() - 1).getId()) : null;
+        return new BookPageResponseDTO(content, pageLimit, hasNext, nextCursor);
+    }
+
+    public BookSearchResponseDTO search(String query, SearchMode mode, Integer offset, Integer limit) {
+        SearchMode searchMode = mode == null ? SearchMode.FULLTEXT : mode;
+        // Offset limitado para que páginas profundas não degradem a latência
+        int searchOffset = offset == null ? 0 : Math.max(0, Math.min(offset, MAX_SEARCH_OFFSET));
+        int searchLimit = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+        if (query == null || query.isBlank()) {
+            return new BookSearchResponseDTO(query, searchMode, List.of(), searchOffset, searchLimit, false);
+        }
+
+        List<BookResponseDTO> results = bookSearchEngine.search(query, searchMode, searchOffset, searchLimit);
+        boolean hasNext = results.size() > searchLimit;
+        List<BookResponseDTO> content = hasNext ? results.subList(0, searchLimit) : results;
+        return new BookSearchResponseDTO(query, searchMode, content, searchOffset, searchLimit, hasNext);
     }
 
     @Transactional(readOnly = true)
+    public void streamAll(Consumer<BookResponseDTO> consumer) {
+        // DTOs não ficam no contexto de persistência: nada a desanexar durante o streaming
+        try (Stream<BookResponseDTO> books = bookRepository.streamAllResponsesOrderById()) {
+            books.forEach(consumer);
+        }
+    }
+
+    // Sem @Transactional: um acerto no cache não deve abrir transação nem ocupar conexão do pool
+    public BookResponseDTO findById(Long id) {
+        return bookCache.getById(id).orElseGet(() -> coalesce(id, () -> {
+            BookResponseDTO response = loadForCache(() -> bookRepository.findResponseById(id))
+                    .orElseThrow(() -> new BookNotFoundException(id));
+            bookCache.put(response);
+            return response;
+        }));
+    }
+
+    // Usado em GET condicional: responde 304 sem carregar a linha completa
+    public Optional<BookVersionDTO> findVersion(Long id) {
+        Optional<BookResponseDTO> cached = bookCache.getById(id);
+        if (cached.isPresent()) {
+            return cached.map(BookVersionDTO::fromResponse);
+        }
+        return bookRepository.findVersionById(id);
+    }
+
     public BookResponseDTO findByIsbn(String isbn) {
-        Book book = bookRepository.findByIsbn(isbn)
-                .orElseThrow(() -> new RuntimeException("Livro não encontrado com ISBN: " + isbn));
-        return BookResponseDTO.fromEntity(book);
+        String canonical = Isbn.normalize(isbn);
+        if (canonical == null) {
+            throw BookNotFoundException.byIsbn(isbn);
+        }
+        return bookCache.getByIsbn(canonical).orElseGet(() -> coalesce(canonical, () -> {
+            BookResponseDTO response = loadForCache(() -> bookRepository.findResponseByIsbn(canonical))
+                    .orElseThrow(() -> BookNotFoundException.byIsbn(isbn));
+            bookCache.put(response);
+            return response;
+        }));
     }
 
+    // Sem @Transactional, como findById: chaves já em cache não abrem transação; as demais
+    // são resolvidas com um SELECT ... IN por bloco de até BATCH_GET_CHUNK_SIZE chaves
+    public BookBatchGetResponseDTO batchGet(List<Long> ids, List<String> isbns) {
+        List<Long> requestedIds = ids == null ? List.of() : ids;
+        List<String> requestedIsbns = isbns == null ? List.of() : isbns;
+
+        Map<Long, BookResponseDTO> byId = new HashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long id : requestedIds) {
+            if (id != null && !byId.containsKey(id) && !missingIds.contains(id)) {
+                bookCache.getById(id).ifPresentOrElse(book -> byId.put(id, book), () -> missingIds.add(id));
+            }
+        }
+        Map<String, BookResponseDTO> byIsbn = new HashMap<>();
+        Set<String> missingIsbns = new LinkedHashSet<>();
+        for (String isbn : requestedIsbns) {
+            String canonical = Isbn.normalize(isbn);
+            if (canonical != null && !byIsbn.containsKey(canonical) && !missingIsbns.contains(canonical)) {
+                bookCache.getByIsbn(canonical).ifPresentOrElse(book -> byIsbn.put(canonical, book),
+                        () -> missingIsbns.add(canonical));
+            }
+        }
+
+        forEachChunk(missingIds, chunk -> loadForCache(() -> bookRepository.findResponsesByIdIn(chunk))
+                .forEach(response -> {
+                    bookCache.put(response);
+                    byId.put(response.getId(), response);
+                }));
+        forEachChunk(missingIsbns, chunk -> loadForCache(() -> bookRepository.findResponsesByIsbnIn(chunk))
+                .forEach(response -> {
+                    bookCache.put(response);
+                    byIsbn.put(response.getIsbn(), response);
+                }));
+
+        List<BookBatchGetItemDTO> results = new ArrayList<>(requestedIds.size() + requestedIsbns.size());
+        for (Long id : requestedIds) {
+            BookResponseDTO book = id == null ? null : byId.get(id);
+            results.add(new BookBatchGetItemDTO(id, null,
+                    book == null ? BookBatchGetItemDTO.Status.NOT_FOUND : BookBatchGetItemDTO.Status.FOUND, book));
+        }
+        for (String isbn : requestedIsbns) {
+            String canonical = Isbn.normalize(isbn);
+            BookResponseDTO book = canonical == null ? null : byIsbn.get(canonical);
+            BookBatchGetItemDTO.Status status = canonical == null ? BookBatchGetItemDTO.Status.INVALID
+                    : book == null ? BookBatchGetItemDTO.Status.NOT_FOUND : BookBatchGetItemDTO.Status.FOUND;
+            results.add(new BookBatchGetItemDTO(null, isbn, status, book));
+        }
+        int found = (int) results.stream().filter(item -> item.getBook() != null).count();
+        return new BookBatchGetResponseDTO(results, found, results.size() - found);
+    }
+
+    // PUT sem If-Match é idempotente (substituição completa): em conflito de versão a transação
+    // inteira é refeita sobre o estado mais recente, sem perder a escrita concorrente
+    @Retryable(
+            retryFor = ObjectOptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${bookstore.update.retry.max-attempts:1}",
+            backoff = @Backoff(
+                    delayExpression = "${bookstore.update.retry.delay-ms:5}",
+                    maxDelayExpression = "${bookstore.update.retry.max-delay-ms:100}",
+                    multiplier = 2,
+                    random = true))
     @Transactional
     public BookResponseDTO update(Long id, BookRequestDTO requestDTO) {
-        Book book = bookRepository.findBookById(id)
-                .orElseThrow(() -> new BookNotFoundException(id));
+        return update(id, requestDTO, null);
+    }
 
-        if (!book.getIsbn().equals(requestDTO.getIsbn()) &&
-            bookRepository.existsByIsbnAndIdNot(requestDTO.getIsbn(), id)) {
-            throw new IllegalArgumentException("Já existe outro livro cadastrado com o ISBN: " + requestDTO.getIsbn());
-        }
+    @Transactional
+    public BookResponseDTO update(Long id, BookRequestDTO requestDTO, String ifMatch) {
+        Book book = findForWrite(id, ifMatch);
 
+        BookResponseDTO previous = BookResponseDTO.fromEntity(book);
         book.setTitulo(requestDTO.getTitulo());
         book.setAutor(requestDTO.getAutor());
-        book.setIsbn(requestDTO.getIsbn());
+        book.setIsbn(requestDTO.canonicalIsbn());
         book.setAnoPublicacao(requestDTO.getAnoPublicacao());
 
-        Book updatedBook = bookRepository.save(book);
-        return BookResponseDTO.fromEntity(updatedBook);
+        Book updatedBook;
+        try {
+            updatedBook = saveAndFlush(book);
+        } catch (ObjectOptimisticLockingFailureException ex) {
+            // O If-Match casou na leitura, mas outra escrita foi confirmada antes desta
+            if (ifMatch != null) {
+                throw new PreconditionFailedException(id);
+            }
+            throw ex;
+        }
+        BookResponseDTO response = BookResponseDTO.fromEntity(updatedBook);
+        refreshCache(response, previous.getIsbn());
+        eventPublisher.publishEvent(BookChangedEvent.updated(previous, response));
+        return response;
     }
 
     @Transactional
     public void delete(Long id) {
-        if (bookRepository.findBookById(id).isEmpty()) {
-            throw new BookNotFoundException(id);
+        delete(id, null);
+    }
+
+    // Um SELECT ... FOR UPDATE e o DELETE: o estado removido vem do banco, não do cache, para que o evento
+    // (outbox, feed de mudanças e caches das outras instâncias) sempre leve o ISBN do livro removido
+    @Transactional
+    public void delete(Long id, String ifMatch) {
+        Book book = bookRepository.findForUpdate(id)
+                .orElseThrow(() -> new BookNotFoundException(id));
+        BookResponseDTO previous = BookResponseDTO.fromEntity(book);
+        if (ifMatch != null && !BookETag.matches(ifMatch, BookETag.of(previous))) {
+            throw new PreconditionFailedException(id);
         }
         bookRepository.deleteBookById(id);
+        invalidateCache(id, previous.getIsbn());
+        eventPublisher.publishEvent(BookChangedEvent.deleted(id, previous));
+    }
+
+    // A escrita seguinte é condicionada à versão lida aqui, então If-Match não precisa de lock
+    private Book findForWrite(Long id, String ifMatch) {
+        Book book = bookRepository.findBookById(id)
+                .orElseThrow(() -> new BookNotFoundException(id));
+        if (ifMatch != null && !BookETag.matches(ifMatch, BookETag.of(BookResponseDTO.fromEntity(book)))) {
+            throw new PreconditionFailedException(id);
+        }
+        return book;
+    }
+
+    private Book saveAndFlush(Book book) {
+        try {
+            return bookRepository.saveAndFlush(book);
+        } catch (DataIntegrityViolationException ex) {
+            if (DuplicateIsbnException.isIsbnViolation(ex)) {
+                throw new DuplicateIsbnException(book.getIsbn());
+            }
+            throw ex;
+        }
+    }
+
+    // Publica a nova versão após o commit; como o cache nunca troca uma versão por outra mais antiga,
+    // uma leitura concorrente do estado anterior não consegue sobrescrevê-la
+    private void refreshCache(BookResponseDTO response, String previousIsbn) {
+        evict(response.getId(), previousIsbn, response.getIsbn());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        bookCache.put(response);
+                        forget(response.getId(), previousIsbn, response.getIsbn());
+                    } else {
+                        evict(response.getId(), previousIsbn, response.getIsbn());
+                    }
+                }
+            });
+        }
     }
-}
 
+    // Invalida agora e de novo após o commit, para que uma leitura concorrente
+    // não repopule o cache com o estado anterior à transação
+    private void invalidateCache(Long id, String... isbns) {
+        evict(id, isbns);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(id, isbns);
+                }
+            });
+        }
+    }
+
+    private void evict(Long id, String... isbns) {
+        bookCache.evict(id, isbns);
+        forget(id, isbns);
+    }
+
+    // Buscas que começarem depois da escrita não aproveitam uma consulta iniciada antes dela
+    private void forget(Long id, String... isbns) {
+        bookLookups.forget(id);
+        for (String isbn : isbns) {
+            bookLookups.forget(isbn);
+        }
+    }
+
+    // Dentro de uma transação a leitura precisa enxergar as próprias escritas: não usa a consulta de outra thread
+    private BookResponseDTO coalesce(Object key, Supplier<BookResponseDTO> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.get();
+        }
+        return bookLookups.load(key, loader);
+    }
+
+    // O que vai para o cache é servido a todos os clientes até o TTL: lido do primário, porque uma réplica
+    // atrasada devolveria o estado anterior a uma escrita já confirmada (ou um livro já removido)
+    private <T> T loadForCache(Supplier<T> loader) {
+        if (!bookCache.isEnabled()) {
+            return loader.get();
+        }
+        try (ReadReplicaRoutingDataSource.Scope ignored = ReadReplicaRoutingDataSource.usePrimary()) {
+            return loader.get();
+        }
+    }
+
+    private static <T> void forEachChunk(Collection<T> keys, Consumer<List<T>> action) {
+        List<T> chunk = new ArrayList<>(Math.min(keys.size(), BATCH_GET_CHUNK_SIZE));
+        for (T key : keys) {
+            chunk.add(key);
+            if (chunk.size() == BATCH_GET_CHUNK_SIZE) {
+                action.accept(chunk);
+                chunk = new ArrayList<>(BATCH_GET_CHUNK_SIZE);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            action.accept(chunk);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.i9systemas.bookstore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i9systemas.bookstore.config.OutboxProperties;
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+import com.i9systemas.bookstore.dto.OutboxOffsetDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.exception.InvalidOutboxOffsetException;
+import com.i9systemas.bookstore.model.OutboxConsumerOffset;
+import com.i9systemas.bookstore.model.OutboxEvent;
+import com.i9systemas.bookstore.outbox.OutboxChangeFollower;
+import com.i9systemas.bookstore.outbox.OutboxSink;
+import com.i9systemas.bookstore.repository.OutboxConsumerOffsetRepository;
+import com.i9systemas.bookstore.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    // Cursor do publicador na tabela de offsets: o lock na linha serializa publicadores de várias instâncias
+    static final String PUBLISHER = "_publisher";
+
+    private static final Pattern CONSUMER_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,99}");
+
+    private final OutboxEventRepository eventRepository;
+    private final OutboxConsumerOffsetRepository offsetRepository;
+    private final BookChangeFeedService changeFeedService;
+    private final OutboxSink sink;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxChangeFollower> follower;
+
+    // Síncrono e na transação de quem publicou o evento: o INSERT no outbox é confirmado
+    // ou desfeito junto com a mudança no livro
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(BookChangedEvent event) {
+        try {
+            OutboxEvent saved = eventRepository.save(new OutboxEvent(event.getType().name(), event.getBookId(),
+                    objectMapper.writeValueAsString(event)));
+            // Já aplicado aos caches desta instância no commit: o acompanhamento do log não o reaplica
+            follower.ifAvailable(changes -> changes.recordedLocally(saved.getId()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Falha ao serializar evento do livro " + event.getBookId(), ex);
+        }
+    }
+
+    /**
+     * Publica o próximo lote pendente no sink e atribui posições consecutivas aos eventos.
+     * Retorna o tamanho do lote (0 quando não há pendências).
+     */
+    @Transactional
+    public int publishBatch() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        OutboxConsumerOffset cursor = offsetRepository.findForUpdate(PUBLISHER)
+                .orElseGet(() -> offsetRepository.saveAndFlush(new OutboxConsumerOffset(PUBLISHER, 0L, now)));
+
+        List<OutboxEvent> pending = eventRepository.findPending(PageRequest.of(0, properties.getBatchSize()));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        long position = cursor.getLastPosition();
+        for (OutboxEvent event : pending) {
+            event.setPosition(++position);
+            event.setPublishedAt(now);
+        }
+        changeFeedService.record(pending);
+        try {
+            sink.publish(pending.stream().map(OutboxEventDTO::fromEntity).toList());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Falha ao publicar lote do outbox", ex);
+        }
+        cursor.setLastPosition(position);
+        cursor.setUpdatedAt(now);
+        return pending.size();
+    }
+
+    @Transactional
+    public int purgePublished() {
+        if (properties.getRetention().isZero()) {
+            return 0;
+        }
+        LocalDateTime before = LocalDateTime.now().minus(properties.getRetention());
+        changeFeedService.purgeTombstones(before);
+        return eventRepository.deletePublishedBefore(before);
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return eventRepository.countPending();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxEventDTO> readEvents(Long after, Integer limit) {
+        if (after == null || after < 0) {
+            throw new InvalidOutboxOffsetException("Offset inválido: " + after);
+        }
+        return eventRepository.findPublishedAfter(after, PageRequest.of(0, resolveLimit(limit))).stream()
+                .map(OutboxEventDTO::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxEventDTO> readEventsFor(String consumer, Integer limit) {
+        return readEvents(getOffset(consumer).getOffset(), limit);
+    }
+
+    @Transactional(readOnly = true)
+    public OutboxOffsetDTO getOffset(String consumer) {
+        validateConsumer(consumer);
+        long head = head();
+        return offsetRepository.findById(consumer)
+                .map(offset -> new OutboxOffsetDTO(consumer, offset.getLastPosition(), head, offset.getUpdatedAt()))
+                .orElseGet(() -> new OutboxOffsetDTO(consumer, 0L, head, null));
+    }
+
+    // Confirma o processamento até a posição informada; voltar o offset reprocessa eventos ainda retidos
+    @Transactional
+    public OutboxOffsetDTO commitOffset(String consumer, long offset) {
+        validateConsumer(consumer);
+        long head = head();
+        if (offset > head) {
+            throw new InvalidOutboxOffsetException("Offset " + offset + " além do último evento publicado (" + head + ")");
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        OutboxConsumerOffset saved = offsetRepository.save(new OutboxConsumerOffset(consumer, offset, now));
+        return new OutboxOffsetDTO(consumer, saved.getLastPosition(), head, saved.getUpdatedAt());
+    }
+
+    private long head() {
+        return offsetRepository.findById(PUBLISHER).map(OutboxConsumerOffset::getLastPosition).orElse(0L);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return Math.min(100, properties.getMaxReadLimit());
+        }
+        return Math.max(1, Math.min(limit, properties.getMaxReadLimit()));
+    }
+
+    private static void validateConsumer(String consumer) {
+        if (consumer == null || !CONSUMER_NAME.matcher(consumer).matches()) {
+            throw new InvalidOutboxOffsetException("Nome de consumidor inválido: " + consumer);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public final class PageCursor {
+
+    private static final String PREFIX = "id:";
+    private static final String CHANGE_PREFIX = "seq:";
+
+    private PageCursor() {
+    }
+
+    public static String encode(long lastId) {
+        return encode(PREFIX, lastId);
+    }
+
+    public static long decode(String cursor) {
+        return decode(PREFIX, cursor);
+    }
+
+    // Cursor do feed de mudanças: última posição entregue
+    public static String encodeChange(long sequence) {
+        return encode(CHANGE_PREFIX, sequence);
+    }
+
+    public static long decodeChange(String cursor) {
+        return decode(CHANGE_PREFIX, cursor);
+    }
+
+    private static String encode(String prefix, long value) {
+        byte[] raw = (prefix + value).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    private static long decode(String prefix, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(prefix)) {
+                throw new InvalidCursorException(cursor);
+            }
+            long value = Long.parseLong(raw.substring(prefix.length()));
+            if (value < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return value;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.i9systemas.bookstore.validation;
+
+public final class Isbn {
+
+    private static final String PREFIX = "ISBN";
+    private static final int INVALID = -1;
+
+    private Isbn() {
+    }
+
+    public static boolean isValid(CharSequence value) {
+        return parse(value, null) != INVALID;
+    }
+
+    // Forma canônica: ISBN-13 só com dígitos; null se o valor não for um ISBN válido
+    public static String normalize(CharSequence value) {
+        char[] digits = new char[13];
+        int count = parse(value, digits);
+        if (count == INVALID) {
+            return null;
+        }
+        if (count == 10) {
+            System.arraycopy(digits, 0, digits, 3, 9);
+            digits[0] = '9';
+            digits[1] = '7';
+            digits[2] = '8';
+            digits[12] = checkDigit13(digits);
+        }
+        return new String(digits);
+    }
+
+    // Percorre o valor uma única vez: aceita o prefixo "ISBN", "ISBN-10:" ou "ISBN-13:",
+    // separadores '-' ou ' ' isolados entre dígitos e 'X' apenas como dígito verificador do ISBN-10.
+    // Retorna a quantidade de dígitos (10 ou 13) ou INVALID
+    private static int parse(CharSequence value, char[] digits) {
+        if (value == null) {
+            return INVALID;
+        }
+        int length = value.length();
+        int i = skipPrefix(value);
+        int count = 0;
+        int prefix = 0;
+        int sum10 = 0;
+        int sum13 = 0;
+        boolean separatorAllowed = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (count == 13) {
+                    return INVALID;
+                }
+                int digit = c - '0';
+                if (count < 3) {
+                    prefix = prefix * 10 + digit;
+                }
+                if (count < 10) {
+                    sum10 += digit * (10 - count);
+                }
+                sum13 += (count % 2 == 0) ? digit : digit * 3;
+                if (digits != null) {
+                    digits[count] = c;
+                }
+                count++;
+                separatorAllowed = true;
+            } else if ((c == 'X' || c == 'x') && count == 9 && i == length - 1) {
+                sum10 += 10;
+                if (digits != null) {
+                    digits[count] = 'X';
+                }
+                count++;
+            } else if ((c == '-' || c == ' ') && separatorAllowed && i < length - 1) {
+                separatorAllowed = false;
+            } else {
+                return INVALID;
+            }
+        }
+        if (count == 10) {
+            return sum10 % 11 == 0 ? 10 : INVALID;
+        }
+        if (count == 13) {
+            return (prefix == 978 || prefix == 979) && sum13 % 10 == 0 ? 13 : INVALID;
+        }
+        return INVALID;
+    }
+
+    private static int skipPrefix(CharSequence value) {
+        if (!regionMatches(value, 0, PREFIX)) {
+            return 0;
+        }
+        int i = PREFIX.length();
+        if (regionMatches(value, i, "-10") || regionMatches(value, i, "-13")) {
+            i += 3;
+        }
+        if (i < value.length() && value.charAt(i) == ':') {
+            i++;
+        }
+        if (i < value.length() && value.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean regionMatches(CharSequence value, int offset, String expected) {
+        if (value.length() - offset < expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < expected.length(); i++) {
+            if (value.charAt(offset + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char checkDigit13(char[] digits) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = digits[i] - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+}
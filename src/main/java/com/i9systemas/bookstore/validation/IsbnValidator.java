@@ -0,0 +1,13 @@
+package com.i9systemas.bookstore.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class IsbnValidator implements ConstraintValidator<ValidIsbn, CharSequence> {
+
+    // Nulo fica a cargo de @NotBlank
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || Isbn.isValid(value);
+    }
+}
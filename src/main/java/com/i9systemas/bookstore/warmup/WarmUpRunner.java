@@ -0,0 +1,149 @@
+package com.i9systemas.bookstore.warmup;
+
+import com.i9systemas.bookstore.config.WarmUpProperties;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.service.BookService;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aquecimento antes de a instância receber tráfego. O Spring Boot só muda o readiness para
+ * ACCEPTING_TRAFFIC depois dos ApplicationRunners, então /actuator/health/readiness fica fora de serviço
+ * até este passo terminar (ou atingir o timeout).
+ * <p>
+ * Abre todas as conexões do pool, inicializa o Bean Validation (metadados e expressões regulares de
+ * BookRequestDTO) e repete leituras pela própria porta HTTP, passando por Tomcat, filtros, Jackson,
+ * BookService e Hibernate. Só leituras: nada é gravado. Sem servidor web (testes com MockMvc), as
+ * leituras chamam o BookService direto.
+ */
+@Slf4j
+public class WarmUpRunner implements ApplicationRunner {
+
+    private static final long MISSING_ID = 0L;
+
+    private final WarmUpProperties properties;
+    private final ApplicationContext applicationContext;
+    private final DataSource dataSource;
+    private final Validator validator;
+    private final BookService bookService;
+
+    public WarmUpRunner(WarmUpProperties properties, ApplicationContext applicationContext, DataSource dataSource,
+                        Validator validator, BookService bookService) {
+        this.properties = properties;
+        this.applicationContext = applicationContext;
+        this.dataSource = dataSource;
+        this.validator = validator;
+        this.bookService = bookService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Verificado aqui e não por @ConditionalOnProperty: com Spring AOT as condições são fixadas no build
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getTimeout().toNanos();
+        try {
+            primeConnectionPool();
+            primeValidator();
+            int requests = webServerPort() > 0 ? primeHttp(webServerPort(), deadline) : primeService(deadline);
+            log.info("Aquecimento concluído em {} ms ({} leituras)", (System.nanoTime() - start) / 1_000_000, requests);
+        } catch (Exception ex) {
+            // Falha no aquecimento não impede a subida: a instância só começa mais lenta
+            log.warn("Aquecimento interrompido após {} ms: {}", (System.nanoTime() - start) / 1_000_000, ex.toString());
+        }
+    }
+
+    // Mantém abertas ao mesmo tempo tantas conexões quanto o pool comporta, para que nenhuma requisição
+    // pague o handshake com o banco
+    private void primeConnectionPool() throws SQLException {
+        int size = dataSource.isWrapperFor(HikariDataSource.class)
+                ? Math.max(1, dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize())
+                : 1;
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid((int) Duration.ofSeconds(5).toSeconds());
+            }
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    private void primeValidator() {
+        validator.validate(new BookRequestDTO("Aquecimento", "Aquecimento", "9780132350884", 2008));
+        validator.validate(new BookRequestDTO("", "", "978013235088X", -1));
+    }
+
+    private int primeHttp(int port, long deadline) throws Exception {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        String baseUrl = "http://localhost:" + port + "/api/livros";
+        List<BookResponseDTO> books = bookService.findPage(null, 20).getContent();
+        int sent = 0;
+        for (int i = 0; i < properties.getRequests() && System.nanoTime() < deadline; i++) {
+            send(client, baseUrl + "?limit=20");
+            if (books.isEmpty()) {
+                send(client, baseUrl + "/" + MISSING_ID);
+                sent += 2;
+                continue;
+            }
+            BookResponseDTO book = books.get(i % books.size());
+            send(client, baseUrl + "/" + book.getId());
+            send(client, baseUrl + "/isbn/" + book.getIsbn());
+            sent += 3;
+        }
+        return sent;
+    }
+
+    private void send(HttpClient client, String url) throws Exception {
+        client.send(HttpRequest.newBuilder(URI.create(url))
+                        .header("X-Client-Id", properties.getClientId())
+                        .timeout(Duration.ofSeconds(5))
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+    }
+
+    private int primeService(long deadline) {
+        int sent = 0;
+        for (int i = 0; i < properties.getRequests() && System.nanoTime() < deadline; i++) {
+            BookPageResponseDTO page = bookService.findPage(null, 20);
+            sent++;
+            if (!page.getContent().isEmpty()) {
+                bookService.findById(page.getContent().get(i % page.getContent().size()).getId());
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    private int webServerPort() {
+        if (applicationContext instanceof WebServerApplicationContext web && web.getWebServer() != null) {
+            return web.getWebServer().getPort();
+        }
+        return -1;
+    }
+}
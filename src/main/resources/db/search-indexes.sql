@@ -0,0 +1,12 @@
+-- Migração de implantação (ex.: psql -f search-indexes.sql). CONCURRENTLY não bloqueia escritas em books
+-- durante a construção, mas não pode rodar dentro de uma transação: execute com autocommit. Uma construção
+-- interrompida deixa o índice INVALID, que IF NOT EXISTS não refaz: remova-o com DROP INDEX CONCURRENTLY
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_books_search_document ON books USING GIN (
+    (setweight(to_tsvector('simple', titulo), 'A') || setweight(to_tsvector('simple', autor), 'B'))
+);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_books_titulo_trgm ON books USING GIN (lower(titulo) gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_books_autor_trgm ON books USING GIN (lower(autor) gin_trgm_ops);
@@ -0,0 +1,33 @@
+package com.i9systemas.bookstore.reactive;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+// Linha da tabela books criada pela entidade JPA Book; change_seq é atribuída pelo publicador do outbox
+@Data
+@NoArgsConstructor
+@Table("books")
+public class BookRow {
+
+    @Id
+    private Long id;
+    private String titulo;
+    private String autor;
+    private String isbn;
+    private Integer anoPublicacao;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public BookResponseDTO toResponse() {
+        return new BookResponseDTO(id, titulo, autor, isbn, anoPublicacao, createdAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,46 @@
+package com.i9systemas.bookstore.reactive;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Ids de uma sequence com incremento em bloco, no mesmo formato do otimizador pooled do Hibernate:
+ * cada nextval V reserva (V - incremento, V]. As duas aplicações podem inserir na mesma tabela sem colisão.
+ */
+class PooledSequence {
+
+    private final DatabaseClient databaseClient;
+    private final String sql;
+    private final int incrementSize;
+
+    // Bloco atual: next até hi, inclusive. Protegido pelo monitor desta instância
+    private long next = 1;
+    private long hi = 0;
+
+    PooledSequence(DatabaseClient databaseClient, String sequenceName, int incrementSize) {
+        this.databaseClient = databaseClient;
+        this.sql = "SELECT nextval('" + sequenceName + "')";
+        this.incrementSize = incrementSize;
+    }
+
+    Mono<Long> next() {
+        return Mono.defer(() -> {
+            synchronized (this) {
+                if (next <= hi) {
+                    return Mono.just(next++);
+                }
+            }
+            // Pedidos concorrentes com o bloco esgotado buscam um bloco cada; o restante do substituído é descartado
+            return databaseClient.sql(sql)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(value -> {
+                        synchronized (this) {
+                            hi = value;
+                            next = Math.max(1, value - incrementSize + 1);
+                            return next++;
+                        }
+                    });
+        });
+    }
+}
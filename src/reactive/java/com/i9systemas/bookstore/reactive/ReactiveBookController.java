@@ -0,0 +1,83 @@
+package com.i9systemas.bookstore.reactive;
+
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.service.BookETag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Mesmo contrato de BookController para CRUD, listagem e streaming. If-None-Match e
+// If-Modified-Since são avaliados pelo WebFlux a partir do ETag e Last-Modified da resposta
+@RestController
+@RequestMapping("/api/livros")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookController {
+
+    private final ReactiveBookService bookService;
+
+    @PostMapping
+    public Mono<ResponseEntity<BookResponseDTO>> create(@Valid @RequestBody BookRequestDTO requestDTO) {
+        return bookService.create(requestDTO)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(BookETag.of(response))
+                        .body(response));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<BookPageResponseDTO>> findAll(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        return bookService.findPage(after, limit)
+                .map(page -> ResponseEntity.ok()
+                        .eTag(BookETag.ofPage(page.getContent(), page.getNextCursor()))
+                        .body(page));
+    }
+
+    // Cada livro é escrito assim que lido; a leitura do banco acompanha a demanda do cliente
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<BookResponseDTO> stream() {
+        return bookService.streamAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<BookResponseDTO>> findById(@PathVariable Long id) {
+        return bookService.findById(id).map(ReactiveBookController::withValidators);
+    }
+
+    @GetMapping("/isbn/{isbn}")
+    public Mono<ResponseEntity<BookResponseDTO>> findByIsbn(@PathVariable String isbn) {
+        return bookService.findByIsbn(isbn).map(ResponseEntity::ok);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<BookResponseDTO>> update(
+            @PathVariable Long id,
+            @Valid @RequestBody BookRequestDTO requestDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return bookService.update(id, requestDTO, ifMatch).map(ReactiveBookController::withValidators);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return bookService.delete(id, ifMatch).then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    private static ResponseEntity<BookResponseDTO> withValidators(BookResponseDTO book) {
+        return ResponseEntity.ok()
+                .eTag(BookETag.of(book))
+                .lastModified(BookETag.lastModified(book.getUpdatedAt()))
+                .body(book);
+    }
+}
@@ -0,0 +1,24 @@
+package com.i9systemas.bookstore.reactive;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveBookRepository extends R2dbcRepository<BookRow, Long> {
+
+    Mono<BookRow> findByIsbn(String isbn);
+
+    // Remoção: o estado removido vai no evento do outbox
+    @Query("SELECT * FROM books WHERE id = :id FOR UPDATE")
+    Mono<BookRow> findForUpdate(@Param("id") Long id);
+
+    @Query("SELECT * FROM books WHERE id > :afterId ORDER BY id LIMIT :limit")
+    Flux<BookRow> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM books WHERE id = :id")
+    Mono<Integer> deleteBookById(@Param("id") Long id);
+}
@@ -0,0 +1,215 @@
+package com.i9systemas.bookstore.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.exception.BookNotFoundException;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.exception.PreconditionFailedException;
+import com.i9systemas.bookstore.service.BookETag;
+import com.i9systemas.bookstore.service.BookService;
+import com.i9systemas.bookstore.service.PageCursor;
+import com.i9systemas.bookstore.validation.Isbn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Mesmas regras de BookService sem bloquear threads: ISBN único garantido pela constraint, controle
+ * otimista por version com If-Match e retry automático sem ele, e o evento gravado no outbox na
+ * transação da escrita. Não há cache de leitura nem índice de busca nesta variante; a aplicação servlet
+ * aplica essas escritas aos próprios caches ao acompanhar o outbox (OutboxChangeFollower).
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookService {
+
+    // Linhas por ida ao banco no streaming: a demanda do cliente controla quando o próximo bloco é lido
+    public static final int STREAM_FETCH_SIZE = 1000;
+    // Mesmo incremento das sequences das entidades Book e OutboxEvent
+    static final int SEQUENCE_INCREMENT = 50;
+
+    private static final String OUTBOX_INSERT = "INSERT INTO book_outbox (id, type, book_id, payload, created_at) "
+            + "VALUES (:id, :type, :bookId, :payload, :createdAt)";
+
+    private final ReactiveBookRepository bookRepository;
+    private final R2dbcEntityTemplate template;
+    private final TransactionalOperator transactionalOperator;
+    private final ObjectMapper objectMapper;
+    private final PooledSequence bookIds;
+    private final PooledSequence outboxIds;
+    private final Retry updateRetry;
+
+    public ReactiveBookService(ReactiveBookRepository bookRepository,
+                               R2dbcEntityTemplate template,
+                               TransactionalOperator transactionalOperator,
+                               ObjectMapper objectMapper,
+                               @Value("${bookstore.update.retry.max-attempts:3}") int maxAttempts,
+                               @Value("${bookstore.update.retry.delay-ms:5}") long delayMs,
+                               @Value("${bookstore.update.retry.max-delay-ms:100}") long maxDelayMs) {
+        this.bookRepository = bookRepository;
+        this.template = template;
+        this.transactionalOperator = transactionalOperator;
+        this.objectMapper = objectMapper;
+        this.bookIds = new PooledSequence(template.getDatabaseClient(), "books_seq", SEQUENCE_INCREMENT);
+        this.outboxIds = new PooledSequence(template.getDatabaseClient(), "book_outbox_seq", SEQUENCE_INCREMENT);
+        this.updateRetry = Retry.backoff(Math.max(0, maxAttempts - 1), Duration.ofMillis(delayMs))
+                .maxBackoff(Duration.ofMillis(maxDelayMs))
+                .filter(OptimisticLockingFailureException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    public Mono<BookResponseDTO> create(BookRequestDTO requestDTO) {
+        BookRow row = apply(new BookRow(), requestDTO);
+        row.setCreatedAt(now());
+        row.setUpdatedAt(row.getCreatedAt());
+        return bookIds.next()
+                .flatMap(id -> {
+                    row.setId(id);
+                    return save(row);
+                })
+                .flatMap(saved -> {
+                    BookResponseDTO response = saved.toResponse();
+                    return record(BookChangedEvent.created(response)).thenReturn(response);
+                })
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<BookPageResponseDTO> findPage(String after, Integer limit) {
+        return Mono.defer(() -> {
+            long afterId = after == null || after.isBlank() ? 0L : PageCursor.decode(after);
+            int pageLimit = limit == null
+                    ? BookService.DEFAULT_PAGE_LIMIT
+                    : Math.max(1, Math.min(limit, BookService.MAX_PAGE_LIMIT));
+
+            // Um registro a mais indica se existe próxima página sem COUNT
+            return bookRepository.findPageAfter(afterId, pageLimit + 1)
+                    .map(BookRow::toResponse)
+                    .collectList()
+                    .map(books -> {
+                        boolean hasNext = books.size() > pageLimit;
+                        List<BookResponseDTO> content = hasNext ? books.subList(0, pageLimit) : books;
+                        String nextCursor = hasNext ? PageCursor.encode(content.get(content.size() - 1).getId()) : null;
+                        return new BookPageResponseDTO(content, pageLimit, hasNext, nextCursor);
+                    });
+        });
+    }
+
+    public Flux<BookResponseDTO> streamAll() {
+        return template.getDatabaseClient()
+                .sql("SELECT * FROM books ORDER BY id")
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map((row, metadata) -> template.getConverter().read(BookRow.class, row, metadata).toResponse())
+                .all();
+    }
+
+    public Mono<BookResponseDTO> findById(Long id) {
+        return bookRepository.findById(id)
+                .map(BookRow::toResponse)
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(id)));
+    }
+
+    public Mono<BookResponseDTO> findByIsbn(String isbn) {
+        String canonical = Isbn.normalize(isbn);
+        if (canonical == null) {
+            return Mono.error(BookNotFoundException.byIsbn(isbn));
+        }
+        return bookRepository.findByIsbn(canonical)
+                .map(BookRow::toResponse)
+                .switchIfEmpty(Mono.error(() -> BookNotFoundException.byIsbn(isbn)));
+    }
+
+    // Sem If-Match, um conflito de versão repete a transação inteira, como o @Retryable de BookService
+    public Mono<BookResponseDTO> update(Long id, BookRequestDTO requestDTO, String ifMatch) {
+        Mono<BookResponseDTO> attempt = Mono.defer(() -> findForWrite(id, ifMatch)
+                .flatMap(row -> {
+                    BookResponseDTO previous = row.toResponse();
+                    apply(row, requestDTO).setUpdatedAt(now());
+                    return save(row).flatMap(saved -> {
+                        BookResponseDTO response = saved.toResponse();
+                        return record(BookChangedEvent.updated(previous, response)).thenReturn(response);
+                    });
+                })
+                .as(transactionalOperator::transactional));
+        if (ifMatch != null) {
+            // O If-Match casou na leitura, mas outra escrita foi confirmada antes desta
+            return attempt.onErrorMap(OptimisticLockingFailureException.class, ex -> new PreconditionFailedException(id));
+        }
+        return attempt.retryWhen(updateRetry);
+    }
+
+    // Como em BookService: o livro é lido com FOR UPDATE e o estado removido vai no evento do outbox
+    public Mono<Void> delete(Long id, String ifMatch) {
+        Mono<Void> deletion = bookRepository.findForUpdate(id)
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(id)))
+                .flatMap(row -> {
+                    BookResponseDTO previous = row.toResponse();
+                    if (ifMatch != null && !BookETag.matches(ifMatch, BookETag.of(previous))) {
+                        return Mono.error(new PreconditionFailedException(id));
+                    }
+                    return bookRepository.deleteBookById(id).then(record(BookChangedEvent.deleted(id, previous)));
+                });
+        return deletion.as(transactionalOperator::transactional);
+    }
+
+    private Mono<BookRow> findForWrite(Long id, String ifMatch) {
+        return bookRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new BookNotFoundException(id)))
+                .flatMap(row -> ifMatch != null && !BookETag.matches(ifMatch, BookETag.of(row.toResponse()))
+                        ? Mono.error(new PreconditionFailedException(id))
+                        : Mono.just(row));
+    }
+
+    private Mono<BookRow> save(BookRow row) {
+        return bookRepository.save(row)
+                .onErrorMap(DataIntegrityViolationException.class, ex -> DuplicateIsbnException.isIsbnViolation(ex)
+                        ? new DuplicateIsbnException(row.getIsbn())
+                        : ex);
+    }
+
+    // Mesmo formato de OutboxService.record: o publicador da aplicação servlet entrega os dois lados
+    private Mono<Void> record(BookChangedEvent event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException ex) {
+            return Mono.error(new IllegalStateException("Falha ao serializar evento do livro " + event.getBookId(), ex));
+        }
+        return outboxIds.next().flatMap(id -> template.getDatabaseClient()
+                .sql(OUTBOX_INSERT)
+                .bind("id", id)
+                .bind("type", event.getType().name())
+                .bind("bookId", event.getBookId())
+                .bind("payload", payload)
+                .bind("createdAt", now())
+                .then());
+    }
+
+    private static BookRow apply(BookRow row, BookRequestDTO requestDTO) {
+        row.setTitulo(requestDTO.getTitulo());
+        row.setAutor(requestDTO.getAutor());
+        row.setIsbn(requestDTO.canonicalIsbn());
+        row.setAnoPublicacao(requestDTO.getAnoPublicacao());
+        return row;
+    }
+
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,31 @@
+package com.i9systemas.bookstore.reactive;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Variante reativa da API de livros (WebFlux + R2DBC), compilada com o perfil Maven reactive. Lê
+ * reactive.properties em vez de application.properties e usa o mesmo banco da aplicação servlet.
+ */
+// Condicional para que a varredura de componentes da aplicação servlet ignore este pacote
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@SpringBootApplication
+public class ReactiveBookstoreApplication {
+
+	public static final String CONFIG_NAME = "reactive";
+
+	public static void main(String[] args) {
+		new SpringApplicationBuilder(ReactiveBookstoreApplication.class)
+				.properties("spring.config.name=" + CONFIG_NAME)
+				.run(args);
+	}
+
+	// spring-boot-starter-web também traz o Tomcat, que teria preferência: o servidor reativo é o Netty
+	@Bean
+	NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+}
@@ -0,0 +1,152 @@
+package com.i9systemas.bookstore.reactive;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.i9systemas.bookstore.exception.BookNotFoundException;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.exception.ErrorResponse;
+import com.i9systemas.bookstore.exception.InvalidCursorException;
+import com.i9systemas.bookstore.exception.PreconditionFailedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Mesmas respostas de GlobalExceptionHandler, com as exceções equivalentes do WebFlux e do R2DBC
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+  private final Counter notFoundCounter;
+  private final Counter duplicateIsbnCounter;
+
+  public ReactiveExceptionHandler(MeterRegistry meterRegistry) {
+    this.notFoundCounter = Counter.builder("bookstore.books.not.found")
+            .description("Buscas por livro inexistente respondidas com 404")
+            .register(meterRegistry);
+    this.duplicateIsbnCounter = Counter.builder("bookstore.books.duplicate.isbn")
+            .description("Escritas rejeitadas por ISBN já cadastrado")
+            .register(meterRegistry);
+  }
+
+  @ExceptionHandler(BookNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleBookNotFoundException(
+          BookNotFoundException ex, ServerWebExchange exchange) {
+
+    notFoundCounter.increment();
+    return error(HttpStatus.NOT_FOUND, ex.getMessage(), exchange);
+  }
+
+  @ExceptionHandler(DuplicateIsbnException.class)
+  public ResponseEntity<ErrorResponse> handleDuplicateIsbnException(
+          DuplicateIsbnException ex, ServerWebExchange exchange) {
+
+    duplicateIsbnCounter.increment();
+    return error(HttpStatus.CONFLICT, ex.getMessage(), exchange);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ErrorResponse> handleOptimisticLockException(
+          OptimisticLockingFailureException ex, ServerWebExchange exchange) {
+
+    return error(HttpStatus.CONFLICT, "O livro foi alterado por outra requisição; tente novamente", exchange);
+  }
+
+  @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+  public ResponseEntity<ErrorResponse> handleDatabaseUnavailableException(
+          Exception ex, ServerWebExchange exchange) {
+
+    return error(HttpStatus.SERVICE_UNAVAILABLE,
+            "Banco de dados indisponível ou sobrecarregado; tente novamente", exchange);
+  }
+
+  @ExceptionHandler(PreconditionFailedException.class)
+  public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+          PreconditionFailedException ex, ServerWebExchange exchange) {
+
+    return error(HttpStatus.PRECONDITION_FAILED, ex.getMessage(), exchange);
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCursorException(
+          InvalidCursorException ex, ServerWebExchange exchange) {
+
+    return error(HttpStatus.BAD_REQUEST, ex.getMessage(), exchange);
+  }
+
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<ErrorResponse> handleValidationExceptions(
+          WebExchangeBindException ex, ServerWebExchange exchange) {
+
+    List<ErrorResponse.FieldError> fieldErrors = ex.getBindingResult()
+            .getAllErrors()
+            .stream()
+            .map(error -> new ErrorResponse.FieldError(
+                    ((FieldError) error).getField(),
+                    error.getDefaultMessage()
+            ))
+            .collect(Collectors.toList());
+
+    ResponseEntity<ErrorResponse> response = error(HttpStatus.BAD_REQUEST, "Erro de validação nos campos", exchange);
+    response.getBody().setFieldErrors(fieldErrors);
+    return response;
+  }
+
+  // Corpo ilegível e parâmetros inválidos chegam como ServerWebInputException; a causa distingue os dois
+  @ExceptionHandler(ServerWebInputException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidInput(
+          ServerWebInputException ex, ServerWebExchange exchange) {
+
+    for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+      if (cause instanceof DecodingException || cause instanceof JsonProcessingException) {
+        return error(HttpStatus.BAD_REQUEST, "JSON inválido no corpo da requisição", exchange);
+      }
+    }
+    return error(HttpStatus.BAD_REQUEST, "Parâmetro inválido ou ausente na requisição", exchange);
+  }
+
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(
+          DataIntegrityViolationException ex, ServerWebExchange exchange) {
+
+    // Mesmo 409 de DuplicateIsbnException, qualquer que seja o caminho da escrita
+    if (DuplicateIsbnException.isIsbnViolation(ex)) {
+      return handleDuplicateIsbnException(new DuplicateIsbnException(), exchange);
+    }
+    return error(HttpStatus.BAD_REQUEST, "Erro de integridade de dados", exchange);
+  }
+
+  @ExceptionHandler(Exception.class)
+  public ResponseEntity<ErrorResponse> handleGlobalException(
+          Exception ex, ServerWebExchange exchange) {
+
+    return error(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor", exchange);
+  }
+
+  private static ResponseEntity<ErrorResponse> error(HttpStatus status, String message, ServerWebExchange exchange) {
+    ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            status.value(),
+            status.getReasonPhrase(),
+            message,
+            exchange.getRequest().getPath().value()
+    );
+
+    return new ResponseEntity<>(error, status);
+  }
+}
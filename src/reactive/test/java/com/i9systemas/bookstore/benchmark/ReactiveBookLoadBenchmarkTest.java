@@ -0,0 +1,302 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.BookstoreManagerApplication;
+import com.i9systemas.bookstore.reactive.ReactiveBookstoreApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Statement;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.sql.DataSource;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mesma carga de leituras por ID na API servlet (Tomcat + JDBC) e na reativa (Netty + R2DBC), com o mesmo
+ * banco, pool de 10 conexões e latência de banco injetada. Mede o pico de threads do servidor e de
+ * conexões em uso durante a carga. O cache da API servlet fica desligado: toda requisição vai ao banco.
+ * Execução: mvn test -Preactive,benchmark -Dtest=ReactiveBookLoadBenchmarkTest -Dbenchmark.rows=5000 -Dbenchmark.clients=300
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - API servlet x API reativa sob alta concorrência")
+class ReactiveBookLoadBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 300);
+    private static final int POOL_SIZE = 10;
+    private static final long DB_LATENCY_MILLIS = 20;
+    private static final String H2_OPTIONS = "DB_CLOSE_DELAY=-1;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE";
+
+    @Test
+    @DisplayName("threads e conexões: servlet x reativa")
+    void servletXReativa() throws Exception {
+        int requests = BenchmarkSupport.rows(5_000);
+        String database = "bookstore_load_" + System.nanoTime();
+        try (ConfigurableApplicationContext servlet = new SpringApplicationBuilder(
+                BookstoreManagerApplication.class, LatencyConfig.class)
+                // Argumentos de linha de comando: precedência sobre o application.properties dos testes
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";" + H2_OPTIONS,
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--bookstore.cache.enabled=false",
+                        "--bookstore.limiter.enabled=false",
+                        "--logging.level.root=WARN")) {
+            JdbcTemplate jdbcTemplate = servlet.getBean(JdbcTemplate.class);
+            BenchmarkSupport.seedBooks(jdbcTemplate, 1_000);
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM books ORDER BY id", Long.class);
+
+            try (ConfigurableApplicationContext reactive = new SpringApplicationBuilder(
+                    ReactiveBookstoreApplication.class, LatencyConfig.class)
+                    .properties("spring.config.name=" + ReactiveBookstoreApplication.CONFIG_NAME)
+                    .run(
+                            "--server.port=0",
+                            "--spring.r2dbc.url=r2dbc:h2:mem:///" + database + "?options=" + H2_OPTIONS,
+                            "--spring.r2dbc.pool.max-size=" + POOL_SIZE,
+                            "--spring.r2dbc.pool.max-acquire-time=30s",
+                            "--spring.sql.init.mode=never",
+                            "--logging.level.root=WARN")) {
+                Result servletResult = load("servlet", servlet, ids, requests, "http-nio-",
+                        () -> LatencyConfig.hikari.getHikariPoolMXBean().getActiveConnections());
+                Result reactiveResult = load("reativa", reactive, ids, requests, "reactor-http-",
+                        () -> LatencyConfig.r2dbcPool.getMetrics().orElseThrow().acquiredSize());
+
+                assertThat(servletResult.errors()).isZero();
+                assertThat(reactiveResult.errors()).isZero();
+                assertThat(servletResult.peakConnections()).isLessThanOrEqualTo(POOL_SIZE);
+                assertThat(reactiveResult.peakConnections()).isLessThanOrEqualTo(POOL_SIZE);
+                // Poucas threads de event loop atendem todas as conexões; no Tomcat, uma thread por requisição em andamento
+                assertThat(reactiveResult.peakThreads()).isLessThan(servletResult.peakThreads());
+            }
+        }
+    }
+
+    private Result load(String name, ConfigurableApplicationContext context, List<Long> ids, int requests,
+                        String serverThreadPrefix, IntSupplier connectionsInUse) throws Exception {
+        String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(8)).build();
+        // Aquecimento sem latência
+        LatencyConfig.enabled = false;
+        for (int i = 0; i < 200; i++) {
+            send(client, baseUrl + "/api/livros/" + ids.get(i % ids.size()));
+        }
+        LatencyConfig.enabled = true;
+
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        AtomicBoolean sampling = new AtomicBoolean(true);
+        AtomicInteger peakThreads = new AtomicInteger();
+        AtomicInteger peakConnections = new AtomicInteger();
+        Thread sampler = new Thread(() -> {
+            while (sampling.get()) {
+                int serverThreads = 0;
+                for (ThreadInfo info : threadBean.getThreadInfo(threadBean.getAllThreadIds(), 0)) {
+                    if (info != null && info.getThreadName().startsWith(serverThreadPrefix)) {
+                        serverThreads++;
+                    }
+                }
+                peakThreads.accumulateAndGet(serverThreads, Math::max);
+                peakConnections.accumulateAndGet(connectionsInUse.getAsInt(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException ex) {
+                    return;
+                }
+            }
+        }, "benchmark-sampler");
+        sampler.start();
+
+        long[] latencies = new long[requests];
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            futures.add(executor.submit(() -> {
+                int i;
+                while ((i = sequence.getAndIncrement()) < requests) {
+                    long begin = System.nanoTime();
+                    if (send(client, baseUrl + "/api/livros/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size()))) != 200) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        executor.shutdown();
+        sampling.set(false);
+        sampler.join();
+        LatencyConfig.enabled = false;
+
+        Arrays.sort(latencies);
+        Result result = new Result(errors.get(), peakThreads.get(), peakConnections.get());
+        System.out.printf("[benchmark] %-8s %6d ms  %6.0f req/s  p50=%5d ms  p99=%5d ms  erros=%d  "
+                        + "threads do servidor (pico)=%d  conexões em uso (pico)=%d%n",
+                name, elapsedMillis, requests * 1000.0 / elapsedMillis,
+                latencies[requests / 2] / 1_000_000, latencies[(int) (requests * 0.99)] / 1_000_000,
+                result.errors(), result.peakThreads(), result.peakConnections());
+        return result;
+    }
+
+    private static int send(HttpClient client, String url) {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception ex) {
+            return -1;
+        }
+    }
+
+    record Result(int errors, int peakThreads, int peakConnections) {
+    }
+
+    // Banco lento nas duas APIs: no JDBC a thread dorme segurando a conexão; no R2DBC a execução é adiada
+    // sem ocupar thread, também segurando a conexão
+    @TestConfiguration
+    static class LatencyConfig {
+
+        static volatile boolean enabled;
+        static volatile HikariDataSource hikari;
+        static volatile ConnectionPool r2dbcPool;
+
+        @Bean
+        static BeanPostProcessor latencyInjectingPostProcessor() {
+            return new LatencyPostProcessor();
+        }
+
+        private static final class LatencyPostProcessor implements BeanPostProcessor, Ordered {
+
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    hikari = dataSource;
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public java.sql.Connection getConnection() throws SQLException {
+                            return wrapJdbc(java.sql.Connection.class, super.getConnection());
+                        }
+                    };
+                }
+                if (bean instanceof ConnectionPool pool) {
+                    r2dbcPool = pool;
+                    return proxy(ConnectionFactory.class, pool, (target, method, args) -> {
+                        Object result = invoke(method, target, args);
+                        return method.getName().equals("create")
+                                ? Mono.from((org.reactivestreams.Publisher<? extends Connection>) result)
+                                        .map(connection -> wrapR2dbc(connection))
+                                : result;
+                    });
+                }
+                return bean;
+            }
+        }
+
+        private static <T> T wrapJdbc(Class<T> type, T target) {
+            return proxy(type, target, (delegate, method, args) -> {
+                if (enabled && method.getName().startsWith("execute")) {
+                    Thread.sleep(DB_LATENCY_MILLIS);
+                }
+                Object result = invoke(method, delegate, args);
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return wrapJdbc(PreparedStatement.class, statement);
+                }
+                return result;
+            });
+        }
+
+        private static Connection wrapR2dbc(Connection connection) {
+            return proxy(Connection.class, connection, (delegate, method, args) -> {
+                Object result = invoke(method, delegate, args);
+                return method.getName().equals("createStatement") ? wrapStatement((Statement) result) : result;
+            });
+        }
+
+        private static Statement wrapStatement(Statement statement) {
+            Statement[] self = new Statement[1];
+            self[0] = proxy(Statement.class, statement, (delegate, method, args) -> {
+                if (method.getName().equals("execute") && enabled) {
+                    return Mono.delay(Duration.ofMillis(DB_LATENCY_MILLIS))
+                            .thenMany(Flux.defer(() -> invokeUnchecked(method, delegate, args)));
+                }
+                Object result = invoke(method, delegate, args);
+                // Métodos fluentes devolvem o próprio Statement: mantém o proxy na cadeia
+                return result == delegate ? self[0] : result;
+            });
+            return self[0];
+        }
+
+        private interface Handler<T> {
+            Object invoke(T target, Method method, Object[] args) throws Throwable;
+        }
+
+        private static <T> T proxy(Class<T> type, T target, Handler<T> handler) {
+            InvocationHandler invocationHandler = (proxy, method, args) -> handler.invoke(target, method, args);
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, invocationHandler));
+        }
+
+        private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> org.reactivestreams.Publisher<T> invokeUnchecked(Method method, Object target, Object[] args) {
+            try {
+                return (org.reactivestreams.Publisher<T>) invoke(method, target, args);
+            } catch (Throwable ex) {
+                return Flux.error(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.i9systemas.bookstore.reactive;
+
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = ReactiveBookstoreApplication.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.config.name=" + ReactiveBookstoreApplication.CONFIG_NAME)
+@DisplayName("ReactiveBookController - Testes de Integração")
+class ReactiveBookControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM book_outbox").then()
+                .then(databaseClient.sql("DELETE FROM books").then())
+                .block();
+    }
+
+    @Test
+    @DisplayName("Deve criar, buscar, atualizar e remover gravando os eventos no outbox")
+    void deveExecutarCicloCompletoComOutbox() {
+        // Given
+        BookResponseDTO created = create(new BookRequestDTO("Clean Code", "Robert C. Martin", "978-0-13-235088-4", 2008));
+        assertThat(created.getIsbn()).isEqualTo("9780132350884");
+        assertThat(created.getVersion()).isZero();
+
+        // When
+        client.get().uri("/api/livros/{id}", created.getId()).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"" + created.getId() + "-0\"")
+                .expectBody(BookResponseDTO.class).isEqualTo(created);
+        client.get().uri("/api/livros/{id}", created.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + created.getId() + "-0\"").exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/api/livros/isbn/{isbn}", "0132350882").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(created.getId());
+
+        BookResponseDTO updated = client.put().uri("/api/livros/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"" + created.getId() + "-0\"")
+                .bodyValue(new BookRequestDTO("Clean Code, 2ª edição", "Robert C. Martin", "9780132350884", 2009))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(BookResponseDTO.class).returnResult().getResponseBody();
+        client.put().uri("/api/livros/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"" + created.getId() + "-0\"")
+                .bodyValue(new BookRequestDTO("Clean Code", "Robert C. Martin", "9780132350884", 2008))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        client.delete().uri("/api/livros/{id}", created.getId()).exchange()
+                .expectStatus().isNoContent();
+
+        // Then
+        assertThat(updated.getTitulo()).isEqualTo("Clean Code, 2ª edição");
+        assertThat(updated.getVersion()).isEqualTo(1);
+        client.get().uri("/api/livros/{id}", created.getId()).exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.message").isEqualTo("Livro não encontrado com o ID: " + created.getId());
+        List<String> events = databaseClient.sql("SELECT type FROM book_outbox WHERE book_id = :id ORDER BY id")
+                .bind("id", created.getId())
+                .map(row -> row.get(0, String.class))
+                .all().collectList().block();
+        assertThat(events).containsExactly("CREATED", "UPDATED", "DELETED");
+    }
+
+    @Test
+    @DisplayName("Deve responder erros no mesmo formato da API servlet")
+    void deveResponderErrosNoFormatoPadrao() {
+        // Given
+        create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+
+        // When / Then
+        client.post().uri("/api/livros")
+                .bodyValue(new BookRequestDTO("Outro", "Autor", "0-201-48567-2", 2000))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Conflict")
+                .jsonPath("$.path").isEqualTo("/api/livros");
+        client.post().uri("/api/livros")
+                .bodyValue(new BookRequestDTO("", "Autor", "123", 2000))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Erro de validação nos campos")
+                .jsonPath("$.fieldErrors[?(@.field == 'titulo')]").exists()
+                .jsonPath("$.fieldErrors[?(@.field == 'isbn')]").exists();
+        client.post().uri("/api/livros")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"titulo\": ")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("JSON inválido no corpo da requisição");
+        client.get().uri("/api/livros?after=xyz").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("Deve paginar por cursor e transmitir todos os livros em NDJSON")
+    void devePaginarETransmitir() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            create(new BookRequestDTO("Livro " + i, "Autor", isbn(i), 2000 + i));
+        }
+
+        // When
+        BookPageResponseDTO first = client.get().uri("/api/livros?limit=3").exchange()
+                .expectStatus().isOk()
+                .expectBody(BookPageResponseDTO.class).returnResult().getResponseBody();
+        BookPageResponseDTO second = client.get().uri("/api/livros?limit=3&after={cursor}", first.getNextCursor()).exchange()
+                .expectStatus().isOk()
+                .expectBody(BookPageResponseDTO.class).returnResult().getResponseBody();
+        List<BookResponseDTO> streamed = client.get().uri("/api/livros/stream")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(BookResponseDTO.class)
+                .getResponseBody().collectList().block();
+
+        // Then
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(second.getContent()).hasSize(2);
+        assertThat(streamed).extracting(BookResponseDTO::getTitulo)
+                .containsExactly("Livro 0", "Livro 1", "Livro 2", "Livro 3", "Livro 4");
+    }
+
+    private BookResponseDTO create(BookRequestDTO request) {
+        return client.post().uri("/api/livros")
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(BookResponseDTO.class).returnResult().getResponseBody();
+    }
+
+    private static String isbn(int sequence) {
+        String body = "978" + String.format("%09d", sequence);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body + ((10 - sum % 10) % 10);
+    }
+}
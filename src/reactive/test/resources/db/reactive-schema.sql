@@ -0,0 +1,28 @@
+-- Tabelas usadas pela variante reativa, como geradas pelas entidades Book e OutboxEvent
+CREATE SEQUENCE IF NOT EXISTS books_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS book_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS books (
+    id BIGINT PRIMARY KEY,
+    titulo VARCHAR(255) NOT NULL,
+    autor VARCHAR(255) NOT NULL,
+    isbn VARCHAR(255) NOT NULL,
+    ano_publicacao INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6),
+    version BIGINT DEFAULT 0 NOT NULL,
+    change_seq BIGINT,
+    CONSTRAINT uk_books_isbn UNIQUE (isbn)
+);
+
+CREATE TABLE IF NOT EXISTS book_outbox (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(16) NOT NULL,
+    book_id BIGINT NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    record_seq BIGSERIAL,
+    position BIGINT,
+    published_at TIMESTAMP(6),
+    CONSTRAINT uk_book_outbox_position UNIQUE (position)
+);
@@ -0,0 +1,80 @@
+package com.i9systemas.bookstore.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+final class BenchmarkSupport {
+
+    private static final int SEED_BATCH_SIZE = 5_000;
+
+    private BenchmarkSupport() {
+    }
+
+    static int rows(int defaultRows) {
+        return Integer.getInteger("benchmark.rows", defaultRows);
+    }
+
+    static void seedBooks(JdbcTemplate jdbcTemplate, int rows) {
+        jdbcTemplate.update("DELETE FROM books");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{"Livro " + i, "Autor " + (i % 1_000), isbn13(i), 1900 + (i % 120), now, now});
+            if (batch.size() == SEED_BATCH_SIZE || i == rows) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO books (id, titulo, autor, isbn, ano_publicacao, created_at, updated_at) "
+                                + "VALUES (nextval('books_seq'), ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    static String isbn13(long sequence) {
+        String body = "978" + String.format("%09d", sequence % 1_000_000_000L);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = body.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return body + ((10 - sum % 10) % 10);
+    }
+
+    static <T> Measurement measure(String name, Callable<T> action) throws Exception {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        System.gc();
+        long heapBefore = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+
+        T result = action.call();
+
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() - heapBefore;
+        Measurement measurement = new Measurement(name, elapsedNanos / 1_000_000, allocated, Math.max(0, peak));
+        System.out.println(measurement + " -> " + result);
+        return measurement;
+    }
+
+    record Measurement(String name, long millis, long allocatedBytes, long peakHeapBytes) {
+
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %-28s %8d ms  alocado=%,d B  pico de heap=%,d B",
+                    name, millis, allocatedBytes, peakHeapBytes);
+        }
+    }
+}
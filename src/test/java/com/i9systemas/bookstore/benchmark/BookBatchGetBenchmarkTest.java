@@ -0,0 +1,99 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Resolução de um carrinho: um GET /api/livros/{id} por item x um POST /api/livros/batch-get,
+ * com cache frio (todas as chaves vão ao banco) e quente.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=2000
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Benchmark - Busca em lote")
+class BookBatchGetBenchmarkTest {
+
+    private static final int[] CART_SIZES = {20, 200};
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BookCache bookCache;
+
+    @Test
+    @DisplayName("GET por item x batch-get")
+    void compararGetPorItemComBatchGet() throws Exception {
+        int carts = BenchmarkSupport.rows(200);
+        BenchmarkSupport.seedBooks(jdbcTemplate, 10_000);
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM books ORDER BY id", Long.class);
+        HttpClient client = HttpClient.newHttpClient();
+        String baseUrl = "http://localhost:" + port + "/api/livros";
+
+        for (int size : CART_SIZES) {
+            for (boolean warm : new boolean[]{false, true}) {
+                long[] single = new long[carts];
+                long[] batch = new long[carts];
+                for (int c = 0; c < carts; c++) {
+                    List<Long> cart = ids.subList((c * size) % (ids.size() - size), (c * size) % (ids.size() - size) + size);
+
+                    prepareCache(warm);
+                    long begin = System.nanoTime();
+                    for (Long id : cart) {
+                        send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/" + id)).GET().build());
+                    }
+                    single[c] = System.nanoTime() - begin;
+
+                    prepareCache(warm);
+                    String body = cart.stream().map(String::valueOf).collect(Collectors.joining(",", "{\"ids\":[", "]}"));
+                    begin = System.nanoTime();
+                    send(client, HttpRequest.newBuilder(URI.create(baseUrl + "/batch-get"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body))
+                            .build());
+                    batch[c] = System.nanoTime() - begin;
+                }
+                String name = size + " itens, cache " + (warm ? "quente" : "frio");
+                print(name + " GET por item", single);
+                print(name + " batch-get", batch);
+            }
+        }
+    }
+
+    private void prepareCache(boolean warm) {
+        if (!warm) {
+            bookCache.clear();
+        }
+    }
+
+    private static void send(HttpClient client, HttpRequest request) throws Exception {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+    }
+
+    private static void print(String name, long[] latencies) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("[benchmark] %-36s p50=%7d us  p99=%7d us%n",
+                name, sorted[sorted.length / 2] / 1_000, sorted[(int) (sorted.length * 0.99)] / 1_000);
+    }
+}
@@ -0,0 +1,80 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.dto.BookBulkDeleteDTO;
+import com.i9systemas.bookstore.dto.BookBulkItemResultDTO.Status;
+import com.i9systemas.bookstore.dto.BookPatchDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.service.BookBulkService;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Correção em massa: BookService.update/delete item a item x PATCH e remoção em lote.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=50000
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("Benchmark - Alteração e remoção em lote")
+class BookBulkBenchmarkTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("item a item x em lote")
+    void compararItemAItemComLote() throws Exception {
+        int rows = BenchmarkSupport.rows(5_000);
+
+        List<Map<String, Object>> books = seed(rows);
+        report("update item a item", rows, BenchmarkSupport.measure("update item a item", () -> {
+            for (Map<String, Object> book : books) {
+                bookService.update(id(book), new BookRequestDTO("Corrigido", (String) book.get("autor"),
+                        (String) book.get("isbn"), ((Number) book.get("ano_publicacao")).intValue()));
+            }
+            return rows;
+        }));
+
+        List<Map<String, Object>> bulkBooks = seed(rows);
+        report("PATCH em lote", rows, BenchmarkSupport.measure("PATCH em lote", () -> bookBulkService.patch(bulkBooks.stream()
+                .map(book -> new BookPatchDTO(id(book), null, "Corrigido", null, null, null))
+                .iterator()).count(Status.UPDATED)));
+
+        List<Map<String, Object>> deleted = seed(rows);
+        report("delete item a item", rows, BenchmarkSupport.measure("delete item a item", () -> {
+            deleted.forEach(book -> bookService.delete(id(book)));
+            return rows;
+        }));
+
+        List<Map<String, Object>> bulkDeleted = seed(rows);
+        report("remoção em lote", rows, BenchmarkSupport.measure("remoção em lote", () -> bookBulkService.delete(bulkDeleted.stream()
+                .map(book -> new BookBulkDeleteDTO(id(book), null))
+                .iterator()).count(Status.DELETED)));
+    }
+
+    private List<Map<String, Object>> seed(int rows) {
+        BenchmarkSupport.seedBooks(jdbcTemplate, rows);
+        return jdbcTemplate.queryForList("SELECT id, autor, isbn, ano_publicacao FROM books ORDER BY id");
+    }
+
+    private static Long id(Map<String, Object> book) {
+        return ((Number) book.get("id")).longValue();
+    }
+
+    private static void report(String name, int rows, BenchmarkSupport.Measurement measurement) {
+        System.out.printf("[benchmark] %-28s %8.0f livros/s%n", name, rows * 1000.0 / Math.max(1, measurement.millis()));
+    }
+}
@@ -0,0 +1,148 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.service.BookExportService;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exporta o catálogo inteiro e amostra o heap retido (após GC) ao longo da exportação: com streaming
+ * ele fica estável, enquanto findAll() cresce com o número de livros.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=3000000
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark - Exportação do catálogo")
+class BookExportBenchmarkTest {
+
+    private static final int SAMPLES = 10;
+    // Margem para ruído do GC entre amostras; o catálogo inteiro ocupa centenas de MB
+    private static final long MAX_HEAP_GROWTH = 16L * 1024 * 1024;
+
+    @Autowired
+    private BookExportService exportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int rows;
+
+    @BeforeAll
+    void seed() {
+        rows = BenchmarkSupport.rows(1_000_000);
+        BenchmarkSupport.seedBooks(jdbcTemplate, rows);
+    }
+
+    @Test
+    @DisplayName("Heap retido estável durante exportação CSV e NDJSON+gzip")
+    void exportarComMemoriaConstante() throws Exception {
+        for (BookExportService.Format format : BookExportService.Format.values()) {
+            for (boolean gzip : new boolean[]{false, true}) {
+                String name = "export " + format + (gzip ? "+gzip" : "");
+                CountingOutputStream written = new CountingOutputStream(OutputStream.nullOutputStream());
+                HeapSamplingOutputStream sink = new HeapSamplingOutputStream(rows,
+                        gzip ? new GZIPOutputStream(written, 64 * 1024) : written);
+                BenchmarkSupport.measure(name, () -> {
+                    long count = exportService.export(sink, format, null, null);
+                    sink.close();
+                    assertThat(count).isEqualTo(rows);
+                    return written.bytes + " bytes, heap retido (MB) " + sink.samplesInMb();
+                });
+                assertThat(sink.growth())
+                        .as("crescimento do heap retido em %s", name)
+                        .isLessThan(MAX_HEAP_GROWTH);
+            }
+        }
+
+        BenchmarkSupport.measure("findAll (" + rows + ")", () -> bookService.findAll().size());
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long bytes;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            bytes += len;
+            out.write(b, off, len);
+        }
+    }
+
+    /**
+     * A cada fração do volume esperado (antes da compressão), mede o heap usado após um GC completo.
+     * O volume é estimado pelo número de linhas, então as amostras cobrem a exportação inteira.
+     */
+    private static final class HeapSamplingOutputStream extends FilterOutputStream {
+
+        private static final long ESTIMATED_BYTES_PER_ROW = 80;
+
+        private final long sampleEvery;
+        private final List<Long> samples = new ArrayList<>();
+        private long bytes;
+        private long nextSample;
+
+        HeapSamplingOutputStream(int rows, OutputStream out) {
+            super(out);
+            this.sampleEvery = Math.max(1, rows * ESTIMATED_BYTES_PER_ROW / SAMPLES);
+            this.nextSample = sampleEvery;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            bytes += len;
+            if (bytes >= nextSample) {
+                nextSample += sampleEvery;
+                System.gc();
+                Runtime runtime = Runtime.getRuntime();
+                samples.add(runtime.totalMemory() - runtime.freeMemory());
+            }
+        }
+
+        long growth() {
+            // A primeira amostra já inclui os buffers da exportação; o que importa é crescer depois dela
+            if (samples.size() < 2) {
+                return 0;
+            }
+            long first = samples.get(0);
+            return samples.stream().mapToLong(Long::longValue).max().orElse(first) - first;
+        }
+
+        List<Long> samplesInMb() {
+            return samples.stream().map(sample -> sample / (1024 * 1024)).toList();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.dto.BookImportReportDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.service.BookImportService;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara a importação em lote com o caminho linha a linha (POST /api/livros).
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=100000
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("Benchmark - Importação de livros")
+class BookImportBenchmarkTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Importação em lote x criação linha a linha")
+    void compararImportacaoComCriacaoUnitaria() throws Exception {
+        int rows = BenchmarkSupport.rows(10_000);
+
+        jdbcTemplate.update("DELETE FROM books");
+        BenchmarkSupport.Measurement single = BenchmarkSupport.measure("create x" + rows, () -> {
+            books(rows, 0).forEach(bookService::create);
+            return rows;
+        });
+
+        jdbcTemplate.update("DELETE FROM books");
+        BenchmarkSupport.Measurement bulk = BenchmarkSupport.measure("import x" + rows, () -> {
+            BookImportReportDTO report = bookImportService.importBooks(books(rows, rows).iterator());
+            assertThat(report.getCreated()).isEqualTo(rows);
+            return report.getCreated();
+        });
+
+        System.out.printf("[benchmark] throughput: create=%,.0f linhas/s import=%,.0f linhas/s%n",
+                rows * 1000.0 / Math.max(1, single.millis()), rows * 1000.0 / Math.max(1, bulk.millis()));
+    }
+
+    private static Stream<BookRequestDTO> books(int rows, int offset) {
+        return IntStream.range(offset, offset + rows)
+                .mapToObj(i -> new BookRequestDTO("Livro " + i, "Autor " + (i % 1_000),
+                        BenchmarkSupport.isbn13(i), 1900 + (i % 120)));
+    }
+}
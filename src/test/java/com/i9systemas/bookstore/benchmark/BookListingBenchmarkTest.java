@@ -0,0 +1,74 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara findAll() com paginação por cursor e streaming.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Benchmark - Listagem de livros")
+class BookListingBenchmarkTest {
+
+    private static final int PAGE_LIMIT = BookService.MAX_PAGE_LIMIT;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int rows;
+
+    @BeforeAll
+    void seed() {
+        rows = BenchmarkSupport.rows(10_000);
+        BenchmarkSupport.seedBooks(jdbcTemplate, rows);
+    }
+
+    @Test
+    @DisplayName("findAll x paginação por cursor x streaming")
+    void compararListagens() throws Exception {
+        BenchmarkSupport.measure("findAll (" + rows + ")", () -> {
+            List<BookResponseDTO> books = bookService.findAll();
+            assertThat(books).hasSize(rows);
+            return books.size();
+        });
+
+        BenchmarkSupport.measure("keyset limit=" + PAGE_LIMIT, () -> {
+            long total = 0;
+            String cursor = null;
+            do {
+                BookPageResponseDTO page = bookService.findPage(cursor, PAGE_LIMIT);
+                total += page.getContent().size();
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+            assertThat(total).isEqualTo(rows);
+            return total;
+        });
+
+        BenchmarkSupport.measure("stream", () -> {
+            AtomicLong total = new AtomicLong();
+            bookService.streamAll(book -> total.incrementAndGet());
+            assertThat(total.get()).isEqualTo(rows);
+            return total.get();
+        });
+    }
+}
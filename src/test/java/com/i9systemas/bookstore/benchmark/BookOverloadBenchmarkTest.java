@@ -0,0 +1,183 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.BookstoreManagerApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Carga aberta (taxa fixa de chegada) de 3x a capacidade do pool, com latência de banco injetada e cache
+ * desligado: sem o limite de concorrência a fila do Tomcat e do Hikari cresce durante toda a carga e a
+ * latência de todas as requisições acompanha; com o limite, o excedente recebe 503 na hora e as admitidas
+ * mantêm latência próxima da de capacidade. A latência é medida a partir do instante agendado do envio.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.seconds=10
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Sobrecarga com e sem limite de concorrência adaptativo")
+class BookOverloadBenchmarkTest {
+
+    private static final int SECONDS = Integer.getInteger("benchmark.seconds", 10);
+    private static final int POOL_SIZE = 5;
+    // Banco bem mais lento que a CPU: a capacidade é limitada pelas conexões, não pelo processador
+    private static final long DB_LATENCY_MILLIS = 100;
+    private static final int OVERLOAD = 3;
+    private static final int CLIENT_IDS = 10;
+
+    @Test
+    @DisplayName("p99 das requisições admitidas sob 3x a capacidade")
+    void sobrecarga() throws Exception {
+        Result unlimited = run("sem limite", false);
+        Result limited = run("adaptativo", true);
+
+        assertThat(limited.rejected()).isPositive();
+        assertThat(limited.p99Millis()).isLessThan(unlimited.p99Millis() / 4);
+        // Rejeitar rápido não pode custar a vazão útil: as admitidas continuam perto da capacidade
+        assertThat(limited.admittedPerSecond()).isGreaterThan(limited.capacity() * 0.6);
+    }
+
+    private Result run(String name, boolean limiterEnabled) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                BookstoreManagerApplication.class, BookThreadingBenchmarkTest.LatencyConfig.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "--spring.datasource.hikari.connection-timeout=60000",
+                        "--bookstore.cache.enabled=false",
+                        "--bookstore.limiter.enabled=" + limiterEnabled,
+                        // Os clientes simulados saem todos de localhost e se distinguem por X-Client-Id
+                        "--bookstore.limiter.trusted-proxies=127.0.0.1,0:0:0:0:0:0:0:1",
+                        "--logging.level.root=WARN")) {
+            BookThreadingBenchmarkTest.LatencyConfig.enabled = false;
+            BenchmarkSupport.seedBooks(context.getBean(JdbcTemplate.class), 1_000);
+            List<Long> ids = context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM books", Long.class);
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort()
+                    + "/api/livros/";
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(Executors.newFixedThreadPool(8))
+                    .build();
+            BookThreadingBenchmarkTest.LatencyConfig.latencyMillis = DB_LATENCY_MILLIS;
+            BookThreadingBenchmarkTest.LatencyConfig.enabled = true;
+            try {
+                // Capacidade medida: carga fechada com tantos clientes quanto conexões, sem fila no pool
+                double capacity = closedLoop(client, baseUrl, ids, POOL_SIZE, Math.max(1, SECONDS / 3));
+                Result result = openLoop(name, client, baseUrl, ids, capacity);
+                System.out.println(result);
+                return result;
+            } finally {
+                BookThreadingBenchmarkTest.LatencyConfig.enabled = false;
+                BookThreadingBenchmarkTest.LatencyConfig.latencyMillis = BookThreadingBenchmarkTest.DB_LATENCY_MILLIS;
+            }
+        }
+    }
+
+    private static double closedLoop(HttpClient client, String baseUrl, List<Long> ids, int clients, int seconds)
+            throws Exception {
+        AtomicInteger completed = new AtomicInteger();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<?>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int c = 0; c < clients; c++) {
+            futures.add(executor.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    if (client.send(request(baseUrl, ids, "aquecimento"), HttpResponse.BodyHandlers.discarding())
+                            .statusCode() == 200) {
+                        completed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        return completed.get() * 1e9 / (System.nanoTime() - start);
+    }
+
+    private static Result openLoop(String name, HttpClient client, String baseUrl, List<Long> ids, double capacity)
+            throws Exception {
+        // Taxa pela capacidade nominal do pool (uma consulta por leitura), igual nas duas execuções; a medida
+        // fica abaixo dela, então a sobrecarga real é de pelo menos OVERLOAD vezes
+        double rate = OVERLOAD * POOL_SIZE * 1000.0 / DB_LATENCY_MILLIS;
+        int total = (int) (rate * SECONDS);
+        long intervalNanos = (long) (1e9 / rate);
+        long[] admittedLatencies = new long[total];
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        List<CompletableFuture<?>> responses = new ArrayList<>(total);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            LockSupport.parkNanos(scheduled - System.nanoTime());
+            responses.add(client.sendAsync(request(baseUrl, ids, "cliente-" + (i % CLIENT_IDS)),
+                            HttpResponse.BodyHandlers.discarding())
+                    .handle((response, ex) -> {
+                        int status = ex == null ? response.statusCode() : -1;
+                        if (status == 200) {
+                            admittedLatencies[admitted.getAndIncrement()] = System.nanoTime() - scheduled;
+                        } else if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        long[] sorted = Arrays.copyOf(admittedLatencies, admitted.get());
+        Arrays.sort(sorted);
+        return new Result(name, capacity, rate, admitted.get() * 1e9 / elapsedNanos, rejected.get(), errors.get(),
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.99));
+    }
+
+    private static HttpRequest request(String baseUrl, List<Long> ids, String clientId) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + ids.get(ThreadLocalRandom.current().nextInt(ids.size()))))
+                .header("X-Client-Id", clientId)
+                .timeout(Duration.ofSeconds(120))
+                .GET()
+                .build();
+    }
+
+    private static long percentileMillis(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, sorted.length * percentile)] / 1_000_000;
+    }
+
+    record Result(String name, double capacity, double offeredPerSecond, double admittedPerSecond,
+                  int rejected, int errors, long p50Millis, long p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %-10s capacidade=%5.0f req/s  oferecido=%5.0f req/s  admitidas=%5.0f req/s"
+                            + "  503=%6d  erros=%d  p50=%6d ms  p99=%6d ms",
+                    name, capacity, offeredPerSecond, admittedPerSecond, rejected, errors, p50Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import com.i9systemas.bookstore.search.InMemoryBookSearchEngine;
+import com.i9systemas.bookstore.search.SearchMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+/**
+ * Latência p99 da busca (motor em memória) conforme o catálogo cresce.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=250000
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("Benchmark - Busca")
+class BookSearchBenchmarkTest {
+
+    private static final int QUERIES = 2_000;
+
+    @Autowired
+    private BookSearchEngine bookSearchEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("p99 por tamanho de catálogo")
+    void medirLatenciaPorTamanhoDeCatalogo() {
+        int rows = BenchmarkSupport.rows(50_000);
+        for (int size : new int[]{rows / 4, rows}) {
+            BenchmarkSupport.seedBooks(jdbcTemplate, size);
+            ((InMemoryBookSearchEngine) bookSearchEngine).rebuild();
+            for (SearchMode mode : SearchMode.values()) {
+                long[] latencies = new long[QUERIES];
+                for (int i = 0; i < QUERIES; i++) {
+                    // Consultas de seletividade fixa: o número de resultados não cresce com o catálogo
+                    String query = switch (mode) {
+                        case FULLTEXT -> "livro " + (1 + i % (size / 4));
+                        case PREFIX -> "livro " + (1_000 + i % 9_000);
+                        case SUBSTRING -> "ro " + (1_000 + i % 9_000);
+                    };
+                    long start = System.nanoTime();
+                    bookSearchEngine.search(query, mode, 0, 20);
+                    latencies[i] = System.nanoTime() - start;
+                }
+                Arrays.sort(latencies);
+                System.out.printf("[benchmark] busca %-9s linhas=%,9d p50=%,8d us p99=%,8d us%n", mode, size,
+                        latencies[QUERIES / 2] / 1_000, latencies[(int) (QUERIES * 0.99)] / 1_000);
+            }
+        }
+    }
+}
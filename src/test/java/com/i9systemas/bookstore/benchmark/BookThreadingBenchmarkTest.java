@@ -0,0 +1,201 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.BookstoreManagerApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Carga HTTP com latência de banco injetada: threads de plataforma (Tomcat, 200 threads) x threads virtuais
+ * com o limite de conexões por semáforo. 90% das requisições são leituras por ID servidas pelo cache;
+ * 10% listam uma página e sempre vão ao banco.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=20000 -Dbenchmark.clients=300 (o modo virtual exige Java 21)
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Threads de plataforma x threads virtuais")
+class BookThreadingBenchmarkTest {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 300);
+    private static final int POOL_SIZE = 10;
+    static final long DB_LATENCY_MILLIS = 20;
+    private static final int HOT_BOOKS = 100;
+
+    @Test
+    @DisplayName("threads de plataforma")
+    void threadsDePlataforma() throws Exception {
+        run("plataforma", false);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("threads virtuais + semáforo")
+    void threadsVirtuais() throws Exception {
+        run("virtual", true);
+    }
+
+    private void run(String name, boolean virtualThreads) throws Exception {
+        int requests = BenchmarkSupport.rows(20_000);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                BookstoreManagerApplication.class, LatencyConfig.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "bookstore.datasource.concurrency.acquire-timeout=30s",
+                        "bookstore.limiter.enabled=false",
+                        "logging.level.root=WARN")
+                .run()) {
+            LatencyConfig.enabled = false;
+            BenchmarkSupport.seedBooks(context.getBean(JdbcTemplate.class), 1_000);
+            List<Long> ids = context.getBean(JdbcTemplate.class)
+                    .queryForList("SELECT id FROM books ORDER BY id LIMIT " + HOT_BOOKS, Long.class);
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(8)).build();
+            for (Long id : ids) {
+                send(client, baseUrl + "/api/livros/" + id);
+            }
+            LatencyConfig.enabled = true;
+
+            long[] cachedLatencies = new long[requests];
+            long[] dbLatencies = new long[requests];
+            AtomicInteger cachedCount = new AtomicInteger();
+            AtomicInteger dbCount = new AtomicInteger();
+            AtomicInteger sequence = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+            long start = System.nanoTime();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(executor.submit(() -> {
+                    int i;
+                    while ((i = sequence.getAndIncrement()) < requests) {
+                        boolean database = i % 10 == 0;
+                        String url = database
+                                ? baseUrl + "/api/livros?limit=20"
+                                : baseUrl + "/api/livros/" + ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        long begin = System.nanoTime();
+                        if (send(client, url) != 200) {
+                            errors.incrementAndGet();
+                        }
+                        long elapsed = System.nanoTime() - begin;
+                        if (database) {
+                            dbLatencies[dbCount.getAndIncrement()] = elapsed;
+                        } else {
+                            cachedLatencies[cachedCount.getAndIncrement()] = elapsed;
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            executor.shutdown();
+
+            System.out.printf("[benchmark] %-10s %6d ms  %7.0f req/s  erros=%d%n",
+                    name, elapsedMillis, requests * 1000.0 / elapsedMillis, errors.get());
+            print(name + " cache", cachedLatencies, cachedCount.get());
+            print(name + " banco", dbLatencies, dbCount.get());
+        }
+    }
+
+    private static int send(HttpClient client, String url) {
+        try {
+            return client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                    HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception ex) {
+            return -1;
+        }
+    }
+
+    private static void print(String name, long[] latencies, int count) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        System.out.printf("[benchmark]   %-16s n=%6d  p50=%6d us  p99=%7d us  max=%7d us%n",
+                name, count, sorted[count / 2] / 1_000, sorted[(int) (count * 0.99)] / 1_000, sorted[count - 1] / 1_000);
+    }
+
+    // Simula um banco lento: cada execução de comando espera latencyMillis segurando a conexão
+    @TestConfiguration
+    static class LatencyConfig {
+
+        static volatile boolean enabled;
+
+        static volatile long latencyMillis = DB_LATENCY_MILLIS;
+
+        @Bean
+        static BeanPostProcessor latencyInjectingDataSourcePostProcessor() {
+            return new LatencyPostProcessor();
+        }
+
+        private static final class LatencyPostProcessor implements BeanPostProcessor, Ordered {
+
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return wrap(Connection.class, super.getConnection());
+                    }
+                };
+            }
+        }
+
+        private static <T> T wrap(Class<T> type, T target) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (enabled && method.getName().startsWith("execute")) {
+                    Thread.sleep(latencyMillis);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getTargetException();
+                }
+                if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                    return wrap(PreparedStatement.class, statement);
+                }
+                return result;
+            }));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Atualização concorrente: escritores serializados externamente (lock global) x controle otimista por versão.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=20000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "bookstore.update.retry.max-attempts=3")
+@DisplayName("Benchmark - Atualização concorrente")
+class BookUpdateBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int BOOKS = 500;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("lock global x controle otimista")
+    void compararSerializacaoComControleOtimista() throws Exception {
+        int updates = BenchmarkSupport.rows(5_000);
+
+        ReentrantLock lock = new ReentrantLock();
+        run("lock global", updates, (id, requestDTO) -> {
+            lock.lock();
+            try {
+                bookService.update(id, requestDTO);
+            } finally {
+                lock.unlock();
+            }
+        });
+
+        run("otimista com retry", updates, bookService::update);
+    }
+
+    private void run(String name, int updates, BookUpdater updater) throws Exception {
+        BenchmarkSupport.seedBooks(jdbcTemplate, BOOKS);
+        List<Map<String, Object>> books = jdbcTemplate.queryForList("SELECT id, isbn FROM books");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                int i;
+                while ((i = sequence.getAndIncrement()) < updates) {
+                    Map<String, Object> book = books.get(ThreadLocalRandom.current().nextInt(books.size()));
+                    BookRequestDTO requestDTO = new BookRequestDTO("Livro " + i, "Autor", (String) book.get("isbn"), 2000);
+                    try {
+                        updater.update(((Number) book.get("id")).longValue(), requestDTO);
+                    } catch (ObjectOptimisticLockingFailureException ex) {
+                        conflicts.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        long elapsedMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+
+        Long versions = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(version), 0) FROM books", Long.class);
+        System.out.printf("[benchmark] %-20s %6d ms  %8.0f atualizações/s  conflitos=%d  versões=%d%n",
+                name, elapsedMillis, updates * 1000.0 / elapsedMillis, conflicts.get(), versions);
+    }
+
+    @FunctionalInterface
+    private interface BookUpdater {
+        void update(Long id, BookRequestDTO requestDTO);
+    }
+}
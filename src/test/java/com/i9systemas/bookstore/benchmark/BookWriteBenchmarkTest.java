@@ -0,0 +1,96 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Criação concorrente: pré-consulta COUNT por ISBN (caminho antigo) x INSERT direto.
+ * Execução: mvn test -Pbenchmark -Dbenchmark.rows=20000
+ */
+@Tag("benchmark")
+@SpringBootTest
+@DisplayName("Benchmark - Escrita concorrente")
+class BookWriteBenchmarkTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("check-then-insert x insert direto")
+    void compararCaminhosDeEscrita() throws Exception {
+        int rows = BenchmarkSupport.rows(5_000);
+
+        jdbcTemplate.update("DELETE FROM books");
+        run("check-then-insert", rows, 0, requestDTO -> {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM books WHERE isbn = ?", Integer.class, requestDTO.getIsbn());
+            if (count != null && count > 0) {
+                throw new DuplicateIsbnException(requestDTO.getIsbn());
+            }
+            bookService.create(requestDTO);
+        });
+
+        jdbcTemplate.update("DELETE FROM books");
+        run("insert direto", rows, rows, bookService::create);
+    }
+
+    private void run(String name, int rows, int offset, BookWriter writer) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger duplicates = new AtomicInteger();
+        long[] latencies = new long[rows];
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                for (int i = thread; i < rows; i += THREADS) {
+                    // Cada quarta escrita repete um ISBN para exercitar o caminho de duplicidade
+                    long sequence = offset + (i % 4 == 3 ? i - 1 : i);
+                    BookRequestDTO requestDTO = new BookRequestDTO("Livro " + i, "Autor", BenchmarkSupport.isbn13(sequence), 2000);
+                    long begin = System.nanoTime();
+                    try {
+                        writer.write(requestDTO);
+                    } catch (DuplicateIsbnException ex) {
+                        duplicates.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        Arrays.sort(latencies);
+        System.out.printf("[benchmark] %-20s %6d ms  p50=%d us  p99=%d us  duplicados=%d%n",
+                name, elapsedMillis, latencies[rows / 2] / 1_000, latencies[(int) (rows * 0.99)] / 1_000, duplicates.get());
+    }
+
+    @FunctionalInterface
+    private interface BookWriter {
+        void write(BookRequestDTO requestDTO);
+    }
+}
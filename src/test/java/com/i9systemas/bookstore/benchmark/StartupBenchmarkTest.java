@@ -0,0 +1,214 @@
+package com.i9systemas.bookstore.benchmark;
+
+import com.i9systemas.bookstore.BookstoreManagerApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Sobe a aplicação empacotada pelo perfil startup (target/startup) em JVMs separadas, sobre um banco H2
+ * em arquivo já populado, e mede para cada modo o tempo até o readiness ficar UP e até a primeira rodada
+ * rápida de leituras (listagem, por ID e por ISBN abaixo de benchmark.fast-millis). Os tempos contam a
+ * partir do lançamento do processo.
+ * Execução: mvn -Pstartup package -DskipTests && mvn test -Pbenchmark -Dtest=StartupBenchmarkTest
+ */
+@Tag("benchmark")
+@DisplayName("Benchmark - Inicialização: padrão, aquecimento, CDS e AOT")
+class StartupBenchmarkTest {
+
+    private static final Path STARTUP_DIRECTORY = Path.of("target", "startup");
+    private static final Path WORK_DIRECTORY = Path.of("target", "startup-benchmark");
+    private static final int ROWS = BenchmarkSupport.rows(10_000);
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 1);
+    private static final long FAST_MILLIS = Long.getLong("benchmark.fast-millis", 25);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    @DisplayName("Tempo até readiness UP e até a primeira leitura rápida em cada modo")
+    void inicializacao() throws Exception {
+        Path jar = startupJar();
+        List<Long> ids = seedDatabase();
+
+        List<Mode> modes = List.of(
+                new Mode("padrão", List.of(), List.of("--bookstore.warmup.enabled=false")),
+                new Mode("aquecimento", List.of(), List.of()),
+                new Mode("CDS + aquecimento", List.of("-XX:SharedArchiveFile=application.jsa"), List.of()),
+                new Mode("AOT + CDS + aquecimento",
+                        List.of("-XX:SharedArchiveFile=application-aot.jsa", "-Dspring.aot.enabled=true"), List.of()));
+
+        List<Result> results = new ArrayList<>();
+        for (Mode mode : modes) {
+            for (int run = 0; run < RUNS; run++) {
+                results.add(start(mode, jar, ids));
+            }
+        }
+        results.forEach(System.out::println);
+
+        Result standard = results.get(0);
+        Result warmUp = results.get(RUNS);
+        Result fastest = results.get(results.size() - 1);
+        // Com aquecimento, a primeira rodada depois do readiness já é rápida
+        assertThat(results.subList(RUNS, results.size()))
+                .allSatisfy(result -> assertThat(result.firstRoundMillis()).isLessThan(standard.firstRoundMillis()));
+        // Mesmo aquecimento: a diferença no readiness é o custo de subir o contexto
+        assertThat(fastest.readyMillis()).isLessThan(warmUp.readyMillis());
+        assertThat(fastest.fastMillis()).isLessThan(standard.fastMillis());
+    }
+
+    private Result start(Mode mode, Path jar, List<Long> ids) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmOptions());
+        command.add("-Xlog:cds=off");
+        command.add("-cp");
+        // O jar da aplicação (com lib/ no manifest) vem primeiro: o classpath gravado no arquivo CDS é prefixo do atual
+        command.add(jar.getFileName() + File.pathSeparator + h2Jar());
+        command.add(BookstoreManagerApplication.class.getName());
+        command.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + databaseUrl(),
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--bookstore.search.create-indexes=false",
+                "--logging.level.root=WARN"));
+        command.addAll(mode.arguments());
+
+        Path log = WORK_DIRECTORY.resolve(mode.name().replaceAll("\\W+", "-") + ".log").toAbsolutePath();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(STARTUP_DIRECTORY.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            String baseUrl = "http://localhost:" + port;
+            long readyMillis = waitForReadiness(process, baseUrl + "/actuator/health/readiness", start, log);
+            long firstRoundMillis = -1;
+            long fastMillis = -1;
+            for (int i = 0; fastMillis < 0 && i < 2_000; i++) {
+                int row = i % ids.size();
+                long roundStart = System.nanoTime();
+                get(baseUrl + "/api/livros?limit=20");
+                get(baseUrl + "/api/livros/" + ids.get(row));
+                get(baseUrl + "/api/livros/isbn/" + BenchmarkSupport.isbn13(row + 1));
+                long roundMillis = (System.nanoTime() - roundStart) / 1_000_000;
+                if (firstRoundMillis < 0) {
+                    firstRoundMillis = roundMillis;
+                }
+                if (roundMillis < FAST_MILLIS) {
+                    fastMillis = (System.nanoTime() - start) / 1_000_000;
+                }
+            }
+            return new Result(mode.name(), readyMillis, firstRoundMillis, fastMillis);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private long waitForReadiness(Process process, String url, long start, Path log) throws Exception {
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Aplicação encerrou durante a inicialização; ver " + log);
+            }
+            try {
+                if (get(url) == 200) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+            } catch (IOException ex) {
+                // Porta ainda fechada
+            }
+            Thread.sleep(10);
+        }
+        throw new IllegalStateException("Readiness não ficou UP em " + STARTUP_TIMEOUT + "; ver " + log);
+    }
+
+    private int get(String url) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private Path startupJar() throws IOException {
+        assumeTrue(Files.exists(STARTUP_DIRECTORY.resolve("application.jsa")),
+                "Gere target/startup antes: mvn -Pstartup package -DskipTests");
+        try (Stream<Path> files = Files.list(STARTUP_DIRECTORY)) {
+            return files.filter(file -> file.toString().endsWith("-startup.jar")).findFirst().orElseThrow();
+        }
+    }
+
+    // O banco é populado uma vez, por um contexto no próprio processo de teste, e fechado antes das medições
+    private List<Long> seedDatabase() throws IOException {
+        if (Files.exists(WORK_DIRECTORY)) {
+            try (Stream<Path> files = Files.walk(WORK_DIRECTORY)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+        Files.createDirectories(WORK_DIRECTORY);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookstoreManagerApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=" + databaseUrl(),
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--logging.level.root=WARN")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            BenchmarkSupport.seedBooks(jdbcTemplate, ROWS);
+            return jdbcTemplate.queryForList("SELECT id FROM books ORDER BY id", Long.class);
+        }
+    }
+
+    private static String databaseUrl() {
+        return "jdbc:h2:file:" + WORK_DIRECTORY.toAbsolutePath().resolve("bookstore")
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+    }
+
+    private static String h2Jar() {
+        return Path.of(org.h2.Driver.class.getProtectionDomain().getCodeSource().getLocation().getPath())
+                .toAbsolutePath().toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    record Mode(String name, List<String> jvmOptions, List<String> arguments) {
+    }
+
+    record Result(String mode, long readyMillis, long firstRoundMillis, long fastMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("[benchmark] %-24s readiness UP em %6d ms  1ª rodada %5d ms  rápida em %6d ms",
+                    mode, readyMillis, firstRoundMillis, fastMillis);
+        }
+    }
+}
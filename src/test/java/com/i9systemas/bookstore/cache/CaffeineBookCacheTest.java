@@ -0,0 +1,72 @@
+package com.i9systemas.bookstore.cache;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaffeineBookCache - Testes Unitários")
+class CaffeineBookCacheTest {
+
+    private CaffeineBookCache cache;
+    private BookResponseDTO book;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CaffeineBookCache(100, Duration.ofMinutes(1));
+        book = new BookResponseDTO(1L, "Clean Code", "Robert C. Martin", "0132350882", 2008,
+                LocalDateTime.now(), LocalDateTime.now(), 0L);
+    }
+
+    @Test
+    @DisplayName("Deve encontrar livro por ID e por ISBN após put")
+    void deveEncontrarLivroPorIdEIsbn() {
+        cache.put(book);
+
+        assertThat(cache.getById(1L)).contains(book);
+        assertThat(cache.getByIsbn("0132350882")).contains(book);
+        assertThat(cache.stats().getHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve invalidar alias de ISBN quando o livro é removido")
+    void deveInvalidarAliasDeIsbnQuandoLivroRemovido() {
+        cache.put(book);
+
+        cache.evict(1L);
+
+        assertThat(cache.getById(1L)).isEmpty();
+        assertThat(cache.getByIsbn("0132350882")).isEmpty();
+        assertThat(cache.stats().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Não deve resolver ISBN antigo após troca de ISBN")
+    void naoDeveResolverIsbnAntigoAposTrocaDeIsbn() {
+        cache.put(book);
+        BookResponseDTO updated = new BookResponseDTO(1L, "Clean Code", "Robert C. Martin", "9780132350884", 2008,
+                book.getCreatedAt(), LocalDateTime.now(), 1L);
+
+        cache.put(updated);
+
+        assertThat(cache.getByIsbn("0132350882")).isEmpty();
+        assertThat(cache.getByIsbn("9780132350884")).contains(updated);
+    }
+
+    @Test
+    @DisplayName("Não deve substituir versão mais nova por leitura atrasada")
+    void naoDeveSubstituirVersaoMaisNovaPorLeituraAtrasada() {
+        BookResponseDTO updated = new BookResponseDTO(1L, "Clean Code 2", "Robert C. Martin", "0132350882", 2008,
+                book.getCreatedAt(), LocalDateTime.now(), 1L);
+        cache.put(updated);
+
+        cache.put(book);
+
+        assertThat(cache.getById(1L)).contains(updated);
+    }
+}
@@ -0,0 +1,58 @@
+package com.i9systemas.bookstore.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookProtobuf - Testes Unitários")
+class BookProtobufTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123_456_000);
+
+    @Test
+    @DisplayName("Deve ler o livro escrito, mantendo campos null e microssegundos")
+    void deveLerLivroEscrito() throws IOException {
+        BookResponseDTO book = new BookResponseDTO(1L, "Dom Casmurro", "Machado de Assis", "9788535910663", null,
+                CREATED_AT, CREATED_AT.plusDays(1), 3L);
+
+        assertThat(BookProtobuf.readBook(BookProtobuf.toByteArray(book))).isEqualTo(book);
+        assertThat(BookProtobuf.readBook(BookProtobuf.toByteArray(new BookResponseDTO()))).isEqualTo(new BookResponseDTO());
+    }
+
+    @Test
+    @DisplayName("Deve ler a página escrita e ignorar campos desconhecidos")
+    void deveLerPaginaEscrita() throws IOException {
+        BookPageResponseDTO page = new BookPageResponseDTO(List.of(
+                new BookResponseDTO(1L, "Dom Casmurro", "Machado de Assis", "9788535910663", 1899, CREATED_AT, CREATED_AT, 0L),
+                new BookResponseDTO(2L, "Memórias Póstumas", "Machado de Assis", "9788535911664", 1881, CREATED_AT, CREATED_AT, 1L)),
+                2, true, "cursor");
+
+        // Campo 99 de uma versão futura do esquema
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(BookProtobuf.toByteArray(page));
+        CodedOutputStream extra = CodedOutputStream.newInstance(bytes);
+        extra.writeString(99, "novo campo");
+        extra.flush();
+
+        assertThat(BookProtobuf.readPage(bytes.toByteArray())).isEqualTo(page);
+    }
+
+    @Test
+    @DisplayName("Deve ler o erro escrito com os erros de campo")
+    void deveLerErroEscrito() throws IOException {
+        ErrorResponse error = new ErrorResponse(CREATED_AT, 400, "Bad Request", "Erro de validação nos campos",
+                "/api/livros", List.of(new ErrorResponse.FieldError("isbn", "ISBN inválido")));
+
+        assertThat(BookProtobuf.readError(BookProtobuf.toByteArray(error))).isEqualTo(error);
+    }
+}
@@ -0,0 +1,142 @@
+package com.i9systemas.bookstore.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.ErrorResponse;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Servidor real (não MockMvc): a compressão é feita pelo Tomcat
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.compression.enabled=true",
+        "server.compression.min-response-size=2KB",
+        "server.compression.mime-types=application/json,application/cbor,application/x-jackson-smile,application/x-protobuf"
+})
+@DisplayName("Negociação de formato e compressão - Testes de Integração")
+class ContentNegotiationIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private BookResponseDTO book;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        book = bookService.create(new BookRequestDTO("Dom Casmurro", "Machado de Assis", "9788535910667", 1899));
+    }
+
+    @Test
+    @DisplayName("Deve responder o mesmo livro em JSON, CBOR, Smile e protobuf conforme o Accept")
+    void deveNegociarFormato() throws Exception {
+        HttpResponse<byte[]> json = get("/api/livros/" + book.getId(), "*/*", false);
+        assertThat(json.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith("application/json"));
+        BookResponseDTO expected = objectMapper.readValue(json.body(), BookResponseDTO.class);
+
+        HttpResponse<byte[]> cbor = get("/api/livros/" + book.getId(), "application/cbor", false);
+        assertThat(cbor.headers().firstValue("Content-Type")).hasValue("application/cbor");
+        assertThat(mapper(new CBORFactory()).readValue(cbor.body(), BookResponseDTO.class)).isEqualTo(expected);
+
+        HttpResponse<byte[]> smile = get("/api/livros/" + book.getId(), "application/x-jackson-smile", false);
+        assertThat(mapper(new SmileFactory()).readValue(smile.body(), BookResponseDTO.class)).isEqualTo(expected);
+
+        HttpResponse<byte[]> protobuf = get("/api/livros/" + book.getId(), "application/x-protobuf", false);
+        assertThat(protobuf.headers().firstValue("Content-Type")).hasValue("application/x-protobuf");
+        assertThat(BookProtobuf.readBook(protobuf.body())).isEqualTo(expected);
+        assertThat(protobuf.body().length).isLessThan(json.body().length / 2);
+        assertThat(protobuf.headers().allValues("Vary")).anySatisfy(vary -> assertThat(vary).contains("Accept"));
+    }
+
+    @Test
+    @DisplayName("Deve responder erros em protobuf quando o cliente só aceita protobuf")
+    void deveResponderErroEmProtobuf() throws Exception {
+        HttpResponse<byte[]> response = get("/api/livros/999999", "application/x-protobuf", false);
+
+        assertThat(response.statusCode()).isEqualTo(404);
+        ErrorResponse error = BookProtobuf.readError(response.body());
+        assertThat(error.getStatus()).isEqualTo(404);
+        assertThat(error.getPath()).isEqualTo("/api/livros/999999");
+    }
+
+    @Test
+    @DisplayName("Deve responder 406 para protobuf em endpoint sem esquema protobuf")
+    void deveResponder406SemEsquemaProtobuf() throws Exception {
+        HttpResponse<byte[]> response = get("/api/livros/search?q=casmurro", "application/x-protobuf", false);
+
+        assertThat(response.statusCode()).isEqualTo(406);
+        assertThat(BookProtobuf.readError(response.body()).getStatus()).isEqualTo(406);
+    }
+
+    @Test
+    @DisplayName("Deve comprimir com gzip só respostas acima do tamanho mínimo")
+    void deveComprimirAcimaDoTamanhoMinimo() throws Exception {
+        for (int i = 1; i <= 50; i++) {
+            bookService.create(new BookRequestDTO("Livro " + i, "Autor " + i, isbn10(i), 2000));
+        }
+
+        HttpResponse<byte[]> single = get("/api/livros/" + book.getId(), "application/json", true);
+        assertThat(single.headers().firstValue("Content-Encoding")).isEmpty();
+
+        HttpResponse<byte[]> page = get("/api/livros?limit=50", "application/json", true);
+        assertThat(page.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        byte[] uncompressed = new GZIPInputStream(new ByteArrayInputStream(page.body())).readAllBytes();
+        assertThat(objectMapper.readValue(uncompressed, BookPageResponseDTO.class).getContent()).hasSize(50);
+        assertThat(page.body().length).isLessThan(uncompressed.length / 3);
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, boolean gzip) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", accept);
+        if (gzip) {
+            request.header("Accept-Encoding", "gzip");
+        }
+        return client.send(request.GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static ObjectMapper mapper(com.fasterxml.jackson.core.JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json().factory(factory).build();
+    }
+
+    // ISBN-10 válido a partir de um número sequencial
+    private static String isbn10(int sequence) {
+        String body = String.format("%09d", sequence);
+        int sum = 0;
+        for (int i = 0; i < 9; i++) {
+            sum += (body.charAt(i) - '0') * (10 - i);
+        }
+        int check = (11 - sum % 11) % 11;
+        return body + (check == 10 ? "X" : String.valueOf(check));
+    }
+}
@@ -0,0 +1,46 @@
+package com.i9systemas.bookstore.config;
+
+import com.i9systemas.bookstore.datasource.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DatabaseConcurrencyConfig - Testes Unitários")
+class DatabaseConcurrencyConfigTest {
+
+    private final BeanPostProcessor postProcessor =
+            DatabaseConcurrencyConfig.concurrencyLimitingDataSourcePostProcessor(properties());
+
+    @Test
+    @DisplayName("Deve limitar o pool Hikari pelo tamanho do pool")
+    void deveLimitarPoolHikari() {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setMaximumPoolSize(4);
+
+        Object bean = postProcessor.postProcessAfterInitialization(pool, "dataSource");
+
+        assertThat(bean).isInstanceOfSatisfying(ConcurrencyLimitingDataSource.class,
+                limited -> assertThat(limited.getMaxConcurrent()).isEqualTo(4));
+    }
+
+    @Test
+    @DisplayName("Não deve envolver proxies nem o roteamento das réplicas")
+    void naoDeveEnvolverProxies() {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(new HikariDataSource());
+
+        assertThat(postProcessor.postProcessAfterInitialization(proxy, "dataSource")).isSameAs(proxy);
+    }
+
+    private static ObjectProvider<DatabaseConcurrencyProperties> properties() {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("databaseConcurrencyProperties", new DatabaseConcurrencyProperties());
+        return beanFactory.getBeanProvider(DatabaseConcurrencyProperties.class);
+    }
+}
@@ -0,0 +1,37 @@
+package com.i9systemas.bookstore.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("OutboxConfig - Testes Unitários")
+class OutboxConfigTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(OutboxConfig.class, ChangeFeedPropertiesConfig.class)
+            .withPropertyValues("bookstore.outbox.publisher-enabled=false", "bookstore.outbox.follow-enabled=false");
+
+    @Test
+    @DisplayName("Deve falhar na subida quando o feed de mudanças está exposto sem publicador")
+    void deveFalharComFeedSemPublicador() {
+        runner.run(context -> assertThat(context).hasFailed()
+                .getFailure().hasRootCauseInstanceOf(IllegalStateException.class)
+                .rootCause().hasMessageContaining("bookstore.changes.enabled"));
+    }
+
+    @Test
+    @DisplayName("Deve subir sem publicador quando o feed de mudanças está desligado")
+    void deveSubirComFeedDesligado() {
+        runner.withPropertyValues("bookstore.changes.enabled=false")
+                .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(BookChangeFeedProperties.class)
+    static class ChangeFeedPropertiesConfig {
+    }
+}
@@ -0,0 +1,70 @@
+package com.i9systemas.bookstore.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConcurrencyLimitingDataSource - Testes Unitários")
+class ConcurrencyLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Deve recusar conexão além do limite após o timeout")
+    void deveRecusarConexaoAlemDoLimite() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.getActiveConnections()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a permissão uma única vez ao fechar a conexão")
+    void deveLiberarPermissaoAoFecharConexao() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getActiveConnections()).isEqualTo(1);
+        dataSource.getConnection();
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    @DisplayName("Deve liberar a permissão quando o pool falha ao entregar a conexão")
+    void deveLiberarPermissaoQuandoPoolFalha() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool esgotado"));
+
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool esgotado");
+        assertThatThrownBy(() -> dataSource.getConnection()).hasMessage("pool esgotado");
+
+        assertThat(dataSource.getActiveConnections()).isZero();
+        verify(target, times(2)).getConnection();
+    }
+}
@@ -0,0 +1,96 @@
+package com.i9systemas.bookstore.datasource;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Mesmo arranjo de ReadReplicaRoutingIntegrationTest, com o cache ligado: o que entra no cache compartilhado
+// tem de vir do primário, senão o título da réplica passa a ser servido a todos os clientes
+@SpringBootTest(properties = {
+        "bookstore.datasource.read-replicas.enabled=true",
+        "bookstore.datasource.read-replicas.nodes[0].url=" + ReadReplicaCacheIntegrationTest.REPLICA_URL,
+        "bookstore.datasource.read-replicas.read-your-writes-window=0s",
+        "bookstore.cache.enabled=true"
+})
+@AutoConfigureMockMvc
+@DisplayName("Cache com réplica de leitura - Testes de Integração")
+class ReadReplicaCacheIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:bookstore_cache_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookCache bookCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private BookResponseDTO book;
+
+    @BeforeAll
+    static void createReplicaTable() {
+        REPLICA.execute("CREATE TABLE IF NOT EXISTS books (id BIGINT PRIMARY KEY, titulo VARCHAR(255), "
+                + "autor VARCHAR(255), isbn VARCHAR(13), ano_publicacao INT, created_at TIMESTAMP, "
+                + "updated_at TIMESTAMP, version BIGINT)");
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        REPLICA.execute("DROP ALL OBJECTS");
+        jdbcTemplate.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS", String.class)
+                .forEach(REPLICA::execute);
+
+        book = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        REPLICA.update("INSERT INTO books (id, titulo, autor, isbn, ano_publicacao, created_at, updated_at, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                book.getId(), "Clean Code (réplica)", book.getAutor(), book.getIsbn(), book.getAnoPublicacao(),
+                book.getCreatedAt(), book.getUpdatedAt(), book.getVersion());
+        bookCache.clear();
+    }
+
+    @Test
+    @DisplayName("GET condicional fora do cache deve preencher o cache com a linha do primário")
+    void getCondicionalDevePreencherOCacheDoPrimario() throws Exception {
+        // When: a versão vem da réplica (ETag diferente), o corpo vai para o cache
+        mockMvc.perform(get("/api/livros/" + book.getId()).header(HttpHeaders.IF_NONE_MATCH, "\"outra-versao\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Clean Code"));
+
+        // Then
+        mockMvc.perform(get("/api/livros/" + book.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Clean Code"));
+        mockMvc.perform(get("/api/livros/isbn/0132350882"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.titulo").value("Clean Code"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.i9systemas.bookstore.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ReadReplicaRoutingDataSource - Testes Unitários")
+class ReadReplicaRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    private Connection primaryConnection;
+    private Connection replica1Connection;
+    private Connection replica2Connection;
+    private ReadReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        replica1 = mock(DataSource.class);
+        replica2 = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        replica1Connection = mock(Connection.class);
+        replica2Connection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica1.getConnection()).thenReturn(replica1Connection);
+        when(replica2.getConnection()).thenReturn(replica2Connection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica1);
+        replicas.put("replica-2", replica2);
+        dataSource = new ReadReplicaRoutingDataSource(primary, replicas, Duration.ofSeconds(30), clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Deve alternar as réplicas em transações somente leitura")
+    void deveAlternarReplicasEmLeitura() throws SQLException {
+        readOnlyTransaction(true);
+
+        assertThat(dataSource.getConnection()).isSameAs(replica1Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica1Connection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário em escritas, fora de transação e dentro de usePrimary()")
+    void deveUsarPrimario() throws SQLException {
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        readOnlyTransaction(false);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        readOnlyTransaction(true);
+        try (ReadReplicaRoutingDataSource.Scope ignored = ReadReplicaRoutingDataSource.usePrimary()) {
+            assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        }
+        assertThat(dataSource.getConnection()).isSameAs(replica1Connection);
+    }
+
+    @Test
+    @DisplayName("Deve ejetar a réplica que falha e readmiti-la após o período de ejeção")
+    void deveEjetarEReadmitirReplica() throws SQLException {
+        readOnlyTransaction(true);
+        when(replica1.getConnection()).thenThrow(new SQLException("réplica fora do ar")).thenReturn(replica1Connection);
+
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(dataSource.getAvailableReplicas()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        verify(replica1, times(1)).getConnection();
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertThat(dataSource.getAvailableReplicas()).isEqualTo(2);
+        assertThat(dataSource.getConnection()).isSameAs(replica2Connection);
+        assertThat(dataSource.getConnection()).isSameAs(replica1Connection);
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando nenhuma réplica está disponível")
+    void deveLerDoPrimarioSemReplicas() throws SQLException {
+        readOnlyTransaction(true);
+        when(replica1.getConnection()).thenThrow(new SQLException("réplica fora do ar"));
+        when(replica2.getConnection()).thenThrow(new SQLException("réplica fora do ar"));
+
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+        assertThat(dataSource.getAvailableReplicas()).isZero();
+        verify(replica1, times(1)).getConnection();
+        verify(replica2, times(1)).getConnection();
+    }
+
+    private static void readOnlyTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,114 @@
+package com.i9systemas.bookstore.datasource;
+
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.service.BookService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Dois H2 em memória fazem o papel de primário e réplica; como não há replicação, cada banco recebe um
+// título diferente para o mesmo livro e o título lido mostra de qual banco veio a resposta
+@SpringBootTest(properties = {
+        "bookstore.datasource.read-replicas.enabled=true",
+        "bookstore.datasource.read-replicas.nodes[0].url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "bookstore.datasource.read-replicas.read-your-writes-window=500ms",
+        "bookstore.cache.enabled=false"
+})
+@AutoConfigureMockMvc
+@DisplayName("Roteamento para réplica de leitura - Testes de Integração")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:bookstore_replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;"
+            + "DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String CLIENT_HEADER = "X-Client-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final JdbcTemplate REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private BookResponseDTO book;
+
+    // A reconstrução do índice de busca na subida já lê da réplica, antes de o esquema ser copiado do primário
+    @BeforeAll
+    static void createReplicaTable() {
+        REPLICA.execute("CREATE TABLE IF NOT EXISTS books (id BIGINT PRIMARY KEY, titulo VARCHAR(255), "
+                + "autor VARCHAR(255), isbn VARCHAR(13), ano_publicacao INT, created_at TIMESTAMP, "
+                + "updated_at TIMESTAMP, version BIGINT)");
+    }
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        // Mesmo esquema do primário, sem os dados
+        REPLICA.execute("DROP ALL OBJECTS");
+        jdbcTemplate.queryForList("SCRIPT NODATA NOPASSWORDS NOSETTINGS", String.class)
+                .forEach(REPLICA::execute);
+
+        book = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        REPLICA.update("INSERT INTO books (id, titulo, autor, isbn, ano_publicacao, created_at, updated_at, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                book.getId(), "Clean Code (réplica)", book.getAutor(), book.getIsbn(), book.getAnoPublicacao(),
+                book.getCreatedAt(), book.getUpdatedAt(), book.getVersion());
+    }
+
+    @Test
+    @DisplayName("Deve gravar no primário e ler da réplica")
+    void deveGravarNoPrimarioELerDaReplica() throws Exception {
+        assertThat(bookService.findById(book.getId()).getTitulo()).isEqualTo("Clean Code (réplica)");
+        assertThat(bookService.findByIsbn("0132350882").getTitulo()).isEqualTo("Clean Code (réplica)");
+        assertThat(jdbcTemplate.queryForObject("SELECT titulo FROM books WHERE id = ?", String.class, book.getId()))
+                .isEqualTo("Clean Code");
+        getTitulo("leitor").andExpect(jsonPath("$.titulo").value("Clean Code (réplica)"));
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário logo após a alteração do mesmo cliente, até o fim da janela")
+    void deveLerAsPropriasEscritas() throws Exception {
+        // When
+        mockMvc.perform(put("/api/livros/" + book.getId())
+                        .header(CLIENT_HEADER, "escritor")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"titulo\":\"Clean Code 2\",\"autor\":\"Robert C. Martin\","
+                                + "\"isbn\":\"0132350882\",\"anoPublicacao\":2008}"))
+                .andExpect(status().isOk());
+
+        // Then
+        getTitulo("escritor").andExpect(jsonPath("$.titulo").value("Clean Code 2"));
+        getTitulo("leitor").andExpect(jsonPath("$.titulo").value("Clean Code (réplica)"));
+        Thread.sleep(600);
+        getTitulo("escritor").andExpect(jsonPath("$.titulo").value("Clean Code (réplica)"));
+    }
+
+    private ResultActions getTitulo(String client) throws Exception {
+        return mockMvc.perform(get("/api/livros/" + book.getId()).header(CLIENT_HEADER, client))
+                .andExpect(status().isOk());
+    }
+}
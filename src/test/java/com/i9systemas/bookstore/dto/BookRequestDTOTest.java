@@ -32,7 +32,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -49,7 +49,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo(null);
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -67,7 +67,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -86,7 +86,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo(tituloLongo);
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -104,7 +104,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor(null);
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -122,7 +122,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -176,7 +176,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2008);
 
         // When
@@ -203,6 +203,25 @@ class BookRequestDTOTest {
         assertThat(violations).isEmpty();
     }
 
+    @Test
+    @DisplayName("Deve retornar erro quando dígito verificador do ISBN for inválido")
+    void deveRetornarErroQuandoDigitoVerificadorIsbnInvalido() {
+        // Given
+        BookRequestDTO dto = new BookRequestDTO();
+        dto.setTitulo("Clean Code");
+        dto.setAutor("Robert C. Martin");
+        dto.setIsbn("978-0-13-235088-5");
+        dto.setAnoPublicacao(2008);
+
+        // When
+        Set<ConstraintViolation<BookRequestDTO>> violations = validator.validate(dto);
+
+        // Then
+        assertThat(violations).hasSize(1);
+        assertThat(violations).anyMatch(v -> v.getPropertyPath().toString().equals("isbn")
+                && v.getMessage().equals("ISBN inválido"));
+    }
+
     @Test
     @DisplayName("Deve retornar erro quando ano de publicação for nulo")
     void deveRetornarErroQuandoAnoPublicacaoNulo() {
@@ -210,7 +229,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(null);
 
         // When
@@ -228,7 +247,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(999);
 
         // When
@@ -246,7 +265,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(2101);
 
         // When
@@ -265,7 +284,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(anoFuturo);
 
         // When
@@ -284,7 +303,7 @@ class BookRequestDTOTest {
         BookRequestDTO dto = new BookRequestDTO();
         dto.setTitulo("Clean Code");
         dto.setAutor("Robert C. Martin");
-        dto.setIsbn("0132350884");
+        dto.setIsbn("0132350882");
         dto.setAnoPublicacao(anoAtual);
 
         // When
@@ -0,0 +1,90 @@
+package com.i9systemas.bookstore.exception;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GlobalExceptionHandler - Testes Unitários")
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+    private final ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/livros"));
+
+    @Test
+    @DisplayName("Violação da constraint de ISBN deve responder 409, como DuplicateIsbnException")
+    void violacaoDeIsbnDeveResponderConflito() {
+        // Given
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException("duplicate key"),
+                        DuplicateIsbnException.ISBN_CONSTRAINT));
+
+        // When
+        ResponseEntity<ErrorResponse> fromConstraint = handler.handleDataIntegrityViolation(ex, request);
+        ResponseEntity<ErrorResponse> fromService =
+                handler.handleDuplicateIsbnException(new DuplicateIsbnException("9780132350884"), request);
+
+        // Then
+        assertThat(fromConstraint.getStatusCode()).isEqualTo(HttpStatus.CONFLICT).isEqualTo(fromService.getStatusCode());
+        assertThat(fromConstraint.getBody().getError()).isEqualTo("Conflict");
+        assertThat(fromConstraint.getBody().getPath()).isEqualTo("/api/livros");
+        assertThat(meterRegistry.counter("bookstore.books.duplicate.isbn").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Violação de unicidade no ISBN com constraint de nome gerado também deve responder 409")
+    void violacaoDeIsbnComNomeGeradoDeveResponderConflito() {
+        // Given: banco criado antes de uk_books_isbn, com o nome que o Hibernate gera para unique = true
+        SQLException duplicate = new SQLException("ERROR: duplicate key value violates unique constraint "
+                + "\"uk_kibbepcitr0a3k0sxfr5k9vm\"\n  Detail: Key (isbn)=(9780132350884) already exists.", "23505");
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", duplicate, "uk_kibbepcitr0a3k0sxfr5k9vm"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("Outras violações de integridade continuam respondendo 400")
+    void outrasViolacoesDevemResponderBadRequest() {
+        // Given
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", new SQLException("not null"), "books_titulo_not_null"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getMessage()).isEqualTo("Erro de integridade de dados");
+    }
+
+    @Test
+    @DisplayName("Violação que não é de unicidade na coluna isbn deve responder 400")
+    void violacaoNaoUnicaNoIsbnDeveResponderBadRequest() {
+        // Given
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null",
+                        new SQLException("ERROR: null value in column \"isbn\" violates not-null constraint", "23502"),
+                        null));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,132 @@
+package com.i9systemas.bookstore.limiter;
+
+import com.i9systemas.bookstore.config.ConcurrencyLimitProperties;
+import com.i9systemas.bookstore.exception.ConcurrencyLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AdaptiveConcurrencyLimit - Testes Unitários")
+class AdaptiveConcurrencyLimitTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ConcurrencyLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setMinLimit(1);
+        properties.setMaxLimit(100);
+        // Só o número de respostas fecha a janela: cada chamada a window() é um ajuste
+        properties.setWindow(Duration.ZERO);
+        properties.setWindowSamples(10);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar além do limite e admitir de novo após a liberação")
+    void deveRejeitarAlemDoLimite() {
+        properties.setInitialLimit(2);
+        AdaptiveConcurrencyLimit limit = limit();
+
+        AdaptiveConcurrencyLimit.Permit first = limit.acquire("a");
+        limit.acquire("b");
+
+        assertThatThrownBy(() -> limit.acquire("c"))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(1L);
+        first.release(false);
+        first.release(false);
+        limit.acquire("c");
+        assertThat(limit.getInFlight()).isEqualTo(2);
+        assertThat(limit.getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve limitar cada cliente à sua parte quando há disputa")
+    void deveLimitarClienteASuaParte() {
+        properties.setInitialLimit(4);
+        AdaptiveConcurrencyLimit limit = limit();
+
+        // Sozinho, o cliente pode usar o limite inteiro
+        AdaptiveConcurrencyLimit.Permit first = limit.acquire("a");
+        limit.acquire("a");
+        limit.acquire("a");
+        limit.acquire("b");
+        first.release(false);
+
+        // Com dois clientes ativos a parte de cada um é 2: "a" já tem 2, "b" ainda pode entrar
+        assertThatThrownBy(() -> limit.acquire("a"))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .hasMessageContaining("Cliente excedeu");
+        limit.acquire("b");
+        assertThat(limit.getRejectedByClient()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência sobe e aumentar com latência estável e limite em uso")
+    void deveAjustarLimitePelaLatencia() {
+        properties.setInitialLimit(20);
+        AdaptiveConcurrencyLimit limit = limit();
+
+        for (int i = 0; i < 5; i++) {
+            window(limit, 15, 10);
+        }
+        int grown = limit.getLimit();
+        assertThat(grown).isGreaterThan(20);
+
+        for (int i = 0; i < 10; i++) {
+            window(limit, 5, 40);
+        }
+        assertThat(limit.getLimit()).isLessThan(grown * 2 / 3);
+
+        // Com pouca concorrência, latência baixa não prova que caberia mais: o limite não sobe
+        int reduced = limit.getLimit();
+        for (int i = 0; i < 5; i++) {
+            window(limit, 1, 10);
+        }
+        assertThat(limit.getLimit()).isEqualTo(reduced);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite por um fator fixo quando o banco responde 503")
+    void deveReduzirLimiteQuandoBancoSobrecarregado() {
+        properties.setInitialLimit(20);
+        properties.setBackoffRatio(0.5);
+        AdaptiveConcurrencyLimit limit = limit();
+
+        List<AdaptiveConcurrencyLimit.Permit> permits = acquire(limit, 10);
+        permits.get(0).release(true);
+        permits.subList(1, permits.size()).forEach(permit -> permit.release(false));
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    private AdaptiveConcurrencyLimit limit() {
+        return new AdaptiveConcurrencyLimit("leitura", properties, clock::get);
+    }
+
+    // Uma janela: windowSamples respostas de rttMillis cada, com até "concurrent" simultâneas
+    private void window(AdaptiveConcurrencyLimit limit, int concurrent, long rttMillis) {
+        for (int done = 0; done < properties.getWindowSamples(); done += concurrent) {
+            List<AdaptiveConcurrencyLimit.Permit> permits = acquire(limit, concurrent);
+            clock.addAndGet(Duration.ofMillis(rttMillis).toNanos());
+            permits.forEach(permit -> permit.release(false));
+        }
+    }
+
+    private static List<AdaptiveConcurrencyLimit.Permit> acquire(AdaptiveConcurrencyLimit limit, int count) {
+        List<AdaptiveConcurrencyLimit.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            permits.add(limit.acquire("cliente-" + i));
+        }
+        return permits;
+    }
+}
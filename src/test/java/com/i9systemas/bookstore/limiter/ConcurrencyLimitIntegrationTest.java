@@ -0,0 +1,71 @@
+package com.i9systemas.bookstore.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Limite fixo em 1 por grupo: uma permissão tomada direto do limitador ocupa o grupo inteiro
+@SpringBootTest(properties = {
+        "bookstore.limiter.initial-limit=1",
+        "bookstore.limiter.min-limit=1",
+        "bookstore.limiter.max-limit=1",
+        "bookstore.limiter.retry-after=2s"
+})
+@AutoConfigureMockMvc
+@DisplayName("Limite de concorrência - Testes de Integração")
+class ConcurrencyLimitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ConcurrencyLimiter limiter;
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando o grupo está no limite")
+    void deveResponder503ComRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimit.Permit permit = limiter.acquire(ConcurrencyGroup.READ, "outro-cliente");
+        try {
+            mockMvc.perform(get("/api/livros/1"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                    .andExpect(jsonPath("$.status").value(503))
+                    .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                    .andExpect(jsonPath("$.path").value("/api/livros/1"));
+        } finally {
+            permit.release(false);
+        }
+
+        mockMvc.perform(get("/api/livros/1"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve limitar cada grupo separadamente e deixar o streaming de fora")
+    void deveLimitarGruposSeparadamente() throws Exception {
+        AdaptiveConcurrencyLimit.Permit permit = limiter.acquire(ConcurrencyGroup.WRITE, "outro-cliente");
+        try {
+            mockMvc.perform(get("/api/livros/1"))
+                    .andExpect(status().isNotFound());
+        } finally {
+            permit.release(false);
+        }
+
+        permit = limiter.acquire(ConcurrencyGroup.READ, "outro-cliente");
+        try {
+            mockMvc.perform(get("/api/livros/stream"))
+                    .andExpect(status().isOk());
+        } finally {
+            permit.release(false);
+        }
+    }
+}
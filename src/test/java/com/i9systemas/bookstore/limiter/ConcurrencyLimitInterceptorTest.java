@@ -0,0 +1,50 @@
+package com.i9systemas.bookstore.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrencyLimitInterceptor - Testes Unitários")
+class ConcurrencyLimitInterceptorTest {
+
+    private static final String PROXY = "10.0.0.10";
+
+    private final ConcurrencyLimitInterceptor interceptor =
+            new ConcurrencyLimitInterceptor(null, "X-Client-Id", List.of(PROXY));
+
+    @Test
+    @DisplayName("Deve ignorar o cabeçalho do cliente quando a requisição não vem de um proxy confiável")
+    void deveIgnorarCabecalhoForaDoProxy() {
+        MockHttpServletRequest first = request("192.168.0.7", "cliente-1");
+        MockHttpServletRequest second = request("192.168.0.7", "cliente-2");
+
+        assertThat(interceptor.clientOf(first)).isEqualTo(interceptor.clientOf(second)).isEqualTo("addr:192.168.0.7");
+    }
+
+    @Test
+    @DisplayName("Deve usar o cabeçalho definido pelo proxy confiável")
+    void deveUsarCabecalhoDoProxy() {
+        assertThat(interceptor.clientOf(request(PROXY, "cliente-1"))).isEqualTo("header:cliente-1");
+        assertThat(interceptor.clientOf(request(PROXY, " "))).isEqualTo("addr:" + PROXY);
+    }
+
+    @Test
+    @DisplayName("Deve preferir o usuário autenticado ao cabeçalho e ao endereço")
+    void devePreferirUsuarioAutenticado() {
+        MockHttpServletRequest request = request(PROXY, "cliente-1");
+        request.setUserPrincipal(() -> "maria");
+
+        assertThat(interceptor.clientOf(request)).isEqualTo("user:maria");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/livros/1");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Client-Id", clientId);
+        return request;
+    }
+}
@@ -0,0 +1,134 @@
+package com.i9systemas.bookstore.metrics;
+
+import com.i9systemas.bookstore.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "bookstore.sql.budget.routes.get[/api/livros]=0")
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Métricas - Testes de Integração")
+class BookMetricsTest {
+
+    private static final String BOOK_JSON =
+            "{\"titulo\":\"Clean Code\",\"autor\":\"Robert C. Martin\",\"isbn\":\"0132350882\",\"anoPublicacao\":2008}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve contar ISBN duplicado e livro não encontrado")
+    void deveContarIsbnDuplicadoELivroNaoEncontrado() throws Exception {
+        // Given
+        double duplicates = meterRegistry.counter("bookstore.books.duplicate.isbn").count();
+        double notFound = meterRegistry.counter("bookstore.books.not.found").count();
+
+        // When
+        mockMvc.perform(post("/api/livros").contentType(MediaType.APPLICATION_JSON).content(BOOK_JSON))
+                .andExpect(status().isCreated());
+        mockMvc.perform(post("/api/livros").contentType(MediaType.APPLICATION_JSON).content(BOOK_JSON))
+                .andExpect(status().isConflict());
+        mockMvc.perform(get("/api/livros/999999")).andExpect(status().isNotFound());
+
+        // Then
+        assertThat(meterRegistry.counter("bookstore.books.duplicate.isbn").count()).isEqualTo(duplicates + 1);
+        assertThat(meterRegistry.counter("bookstore.books.not.found").count()).isEqualTo(notFound + 1);
+    }
+
+    @Test
+    @DisplayName("Deve medir BookService e comandos SQL por requisição")
+    void deveMedirServicoEComandosSqlPorRequisicao() throws Exception {
+        // When
+        mockMvc.perform(get("/api/livros").param("limit", "10")).andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get("bookstore.service").tag("method", "findPage").timer().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/api/livros").summary().max())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar comandos do JdbcTemplate e do corpo assíncrono da exportação")
+    void deveContarComandosForaDoHibernate() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/livros").contentType(MediaType.APPLICATION_JSON).content(BOOK_JSON))
+                .andExpect(status().isCreated());
+
+        // When
+        mockMvc.perform(get("/api/livros/facets")).andExpect(status().isOk());
+        MvcResult export = mockMvc.perform(get("/api/livros/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(export)).andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/api/livros/facets").summary().max())
+                .isGreaterThanOrEqualTo(3);
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/api/livros/export").summary().max())
+                .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve contar requisições acima do orçamento de comandos SQL da rota")
+    void deveContarRequisicoesAcimaDoOrcamento() throws Exception {
+        // When
+        mockMvc.perform(get("/api/livros").param("limit", "10")).andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get(SqlStatementMetricsFilter.BUDGET_EXCEEDED_METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/api/livros").counter().count())
+                .isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find(SqlStatementMetricsFilter.BUDGET_EXCEEDED_METRIC_NAME)
+                .tag("uri", "/api/livros/{id}").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve expor métricas no formato Prometheus")
+    void deveExporMetricasNoFormatoPrometheus() throws Exception {
+        mockMvc.perform(get("/api/livros").param("limit", "10")).andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("bookstore_service_seconds_bucket")
+                .contains("http_server_requests_seconds_bucket")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_statements_total")
+                .contains("bookstore_http_sql_statements_bucket");
+    }
+}
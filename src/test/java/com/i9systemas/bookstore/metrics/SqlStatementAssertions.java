@@ -0,0 +1,37 @@
+package com.i9systemas.bookstore.metrics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fixa quantos comandos SQL uma operação executa, para que N+1 e consultas redundantes quebrem o teste:
+ * <pre>
+ * BookResponseDTO book = assertStatements(counter, 1, () -> bookService.findById(id));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertStatements(SqlStatementCounter counter, int expected, Supplier<T> operation) {
+        counter.start();
+        T result;
+        int executed;
+        try {
+            result = operation.get();
+        } finally {
+            executed = counter.stop();
+        }
+        assertThat(executed).as("comandos SQL executados").isEqualTo(expected);
+        return result;
+    }
+
+    public static void assertStatements(SqlStatementCounter counter, int expected, Runnable operation) {
+        assertStatements(counter, expected, () -> {
+            operation.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,254 @@
+package com.i9systemas.bookstore.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.dto.OutboxEventDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.model.OutboxEvent;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.repository.OutboxEventRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import com.i9systemas.bookstore.search.SearchMode;
+import com.i9systemas.bookstore.service.BookFacetService;
+import com.i9systemas.bookstore.service.BookService;
+import com.i9systemas.bookstore.service.OutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Outbox - Testes de Integração")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @SpyBean
+    private OutboxSink sink;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Autowired
+    private BookCache bookCache;
+
+    @Autowired
+    private SingleFlight<Object, BookResponseDTO> bookLookups;
+
+    @Autowired
+    private BookSearchEngine bookSearchEngine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private InMemoryTopicOutboxSink topic;
+    private long head;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        drain();
+        topic = (InMemoryTopicOutboxSink) sink;
+        topic.clear();
+        head = outboxService.readEvents(0L, Integer.MAX_VALUE).stream()
+                .mapToLong(OutboxEventDTO::getPosition)
+                .max()
+                .orElse(0L);
+    }
+
+    @Test
+    @DisplayName("Deve gravar um evento por mudança e publicá-los em ordem")
+    void deveGravarEPublicarEmOrdem() throws Exception {
+        // Given
+        BookResponseDTO book = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        bookService.update(book.getId(), new BookRequestDTO("Clean Code 2", "Robert C. Martin", "0132350882", 2008));
+        bookService.delete(book.getId());
+        assertThat(outboxService.countPending()).isEqualTo(3);
+
+        // When
+        drain();
+
+        // Then
+        List<OutboxEventDTO> events = topic.read(0, 10);
+        assertThat(events).extracting(OutboxEventDTO::getType).containsExactly("CREATED", "UPDATED", "DELETED");
+        assertThat(events).extracting(OutboxEventDTO::getPosition).containsExactly(head + 1, head + 2, head + 3);
+        assertThat(events).allSatisfy(event -> assertThat(event.getBookId()).isEqualTo(book.getId()));
+        JsonNode updated = objectMapper.readTree(events.get(1).getPayload());
+        assertThat(updated.at("/previous/titulo").asText()).isEqualTo("Clean Code");
+        assertThat(updated.at("/current/titulo").asText()).isEqualTo("Clean Code 2");
+        assertThat(outboxService.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve publicar na ordem de gravação, não na ordem dos ids")
+    void devePublicarNaOrdemDeGravacao() {
+        // Given: cada instância reserva ids em blocos, então a escrita seguinte pode receber um id menor
+        String insert = "INSERT INTO book_outbox (id, type, book_id, payload, created_at) VALUES (?, ?, 7, '{}', ?)";
+        jdbcTemplate.update(insert, 1_000_100L, "UPDATED", LocalDateTime.now());
+        jdbcTemplate.update(insert, 1_000_001L, "DELETED", LocalDateTime.now());
+
+        // When
+        drain();
+
+        // Then
+        assertThat(topic.read(0, 10)).extracting(OutboxEventDTO::getId).containsExactly(1_000_100L, 1_000_001L);
+    }
+
+    @Test
+    @DisplayName("Não deve gravar evento quando a transação é desfeita")
+    void naoDeveGravarEventoEmRollback() {
+        // Given
+        bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        drain();
+
+        // When
+        assertThatThrownBy(() -> bookService.create(new BookRequestDTO("Outro", "Autor", "978-0-13-235088-4", 2008)))
+                .isInstanceOf(DuplicateIsbnException.class);
+
+        // Then
+        assertThat(outboxService.countPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve reentregar o lote quando o sink falha")
+    void deveReentregarLoteQuandoSinkFalha() throws Exception {
+        // Given
+        bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        doThrow(new IllegalStateException("broker indisponível")).when(sink).publish(anyList());
+
+        // When
+        assertThatThrownBy(() -> outboxService.publishBatch()).isInstanceOf(IllegalStateException.class);
+        doCallRealMethod().when(sink).publish(anyList());
+
+        // Then
+        assertThat(outboxService.countPending()).isEqualTo(1);
+        assertThat(outboxService.publishBatch()).isEqualTo(1);
+        assertThat(topic.read(0, 10)).extracting(OutboxEventDTO::getPosition).containsExactly(head + 1);
+    }
+
+    @Test
+    @DisplayName("Consumidor deve ler após o offset confirmado e avançar com PUT")
+    void consumidorDeveLerAposOffsetConfirmado() throws Exception {
+        // Given
+        bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+        drain();
+        mockMvc.perform(put("/api/outbox/consumers/indexador")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"offset\":" + head + "}"))
+                .andExpect(status().isOk());
+
+        // When / Then
+        mockMvc.perform(get("/api/outbox/consumers/indexador/events").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].position").value(head + 1))
+                .andExpect(jsonPath("$[0].payload.current.titulo").value("Clean Code"));
+
+        mockMvc.perform(put("/api/outbox/consumers/indexador")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"offset\":" + (head + 1) + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.offset").value(head + 1))
+                .andExpect(jsonPath("$.head").value(head + 2));
+
+        mockMvc.perform(get("/api/outbox/consumers/indexador/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].payload.current.titulo").value("Refactoring"));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar offset além do último evento e nome de consumidor reservado")
+    void deveRejeitarOffsetInvalido() throws Exception {
+        mockMvc.perform(put("/api/outbox/consumers/indexador")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"offset\":" + (head + 1) + "}"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/outbox/consumers/_publisher"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/api/outbox/consumers/indexador")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"offset\":-1}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar cache e índice de busca com mudanças de outro escritor publicadas no outbox")
+    void deveAplicarMudancasDeOutroEscritor() throws Exception {
+        // Given
+        BookResponseDTO book = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        drain();
+        BookFacetService facetService = mock(BookFacetService.class);
+        OutboxChangeFollower follower = new OutboxChangeFollower(eventRepository, objectMapper, bookCache, bookLookups,
+                bookSearchEngine, facetService, 100, new SimpleMeterRegistry());
+        follower.start();
+        assertThat(bookService.findById(book.getId()).getTitulo()).isEqualTo("Clean Code");
+
+        // When: a variante reativa (ou outra instância) altera o livro e grava o evento sem passar por esta
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("UPDATE books SET titulo = ?, version = version + 1, updated_at = ? WHERE id = ?",
+                "Código Limpo", now, book.getId());
+        BookResponseDTO current = new BookResponseDTO(book.getId(), "Código Limpo", book.getAutor(), book.getIsbn(),
+                book.getAnoPublicacao(), book.getCreatedAt(), now, book.getVersion() + 1);
+        eventRepository.save(new OutboxEvent("UPDATED", book.getId(),
+                objectMapper.writeValueAsString(BookChangedEvent.updated(book, current))));
+        drain();
+        follower.follow();
+
+        // Then
+        assertThat(bookService.findById(book.getId()).getTitulo()).isEqualTo("Código Limpo");
+        assertThat(bookService.search("limpo", SearchMode.FULLTEXT, 0, 10).getContent())
+                .extracting(BookResponseDTO::getId).containsExactly(book.getId());
+        verify(facetService).invalidate();
+    }
+
+    private void drain() {
+        while (outboxService.publishBatch() > 0) {
+            // próximo lote
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.i9systemas.bookstore.search;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("InMemoryBookSearchEngine - Testes Unitários")
+class InMemoryBookSearchEngineTest {
+
+    private InMemoryBookSearchEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryBookSearchEngine(mock(BookRepository.class));
+        engine.index(book(1L, "Clean Code", "Robert C. Martin"));
+        engine.index(book(2L, "Clean Architecture", "Robert C. Martin"));
+        engine.index(book(3L, "Refactoring", "Martin Fowler"));
+        engine.index(book(4L, "Domain-Driven Design", "Eric Evans"));
+    }
+
+    @Test
+    @DisplayName("Deve ordenar busca textual por relevância")
+    void deveOrdenarBuscaTextualPorRelevancia() {
+        List<BookResponseDTO> results = engine.search("martin", SearchMode.FULLTEXT, 0, 10);
+
+        assertThat(results).extracting(BookResponseDTO::getId).containsExactly(1L, 2L, 3L);
+        assertThat(engine.search("clean martin", SearchMode.FULLTEXT, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por prefixo do último termo")
+    void deveBuscarPorPrefixoDoUltimoTermo() {
+        assertThat(engine.search("clean arch", SearchMode.PREFIX, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(2L);
+        assertThat(engine.search("Refac", SearchMode.PREFIX, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por substring em título e autor")
+    void deveBuscarPorSubstring() {
+        assertThat(engine.search("ACTOR", SearchMode.SUBSTRING, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(3L);
+        assertThat(engine.search("va", SearchMode.SUBSTRING, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve paginar retornando um resultado a mais que o limite")
+    void devePaginarRetornandoUmResultadoAMais() {
+        assertThat(engine.search("martin", SearchMode.PREFIX, 1, 1))
+                .extracting(BookResponseDTO::getId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções no índice")
+    void deveRefletirAtualizacoesERemocoes() {
+        BookResponseDTO previous = book(3L, "Refactoring", "Martin Fowler");
+        engine.onBookChanged(BookChangedEvent.updated(previous, book(3L, "Refatoração", "Martin Fowler")));
+        engine.onBookChanged(BookChangedEvent.deleted(1L, null));
+
+        assertThat(engine.search("refactoring", SearchMode.FULLTEXT, 0, 10)).isEmpty();
+        assertThat(engine.search("refatoração", SearchMode.FULLTEXT, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(3L);
+        assertThat(engine.search("clean", SearchMode.FULLTEXT, 0, 10))
+                .extracting(BookResponseDTO::getId).containsExactly(2L);
+    }
+
+    private static BookResponseDTO book(Long id, String titulo, String autor) {
+        return new BookResponseDTO(id, titulo, autor, "isbn-" + id, 2000, LocalDateTime.now(), LocalDateTime.now(), 0L);
+    }
+}
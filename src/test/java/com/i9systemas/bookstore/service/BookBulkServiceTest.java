@@ -0,0 +1,157 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookBulkDeleteDTO;
+import com.i9systemas.bookstore.dto.BookBulkItemResultDTO;
+import com.i9systemas.bookstore.dto.BookBulkItemResultDTO.Status;
+import com.i9systemas.bookstore.dto.BookBulkReportDTO;
+import com.i9systemas.bookstore.dto.BookPatchDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.model.Book;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = "bookstore.bulk.chunk-size=2")
+@DisplayName("BookBulkService - Testes de Integração")
+class BookBulkServiceTest {
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private BookService bookService;
+
+    @SpyBean
+    private BookRepository bookRepository;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    private BookResponseDTO cleanCode;
+    private BookResponseDTO refactoring;
+    private BookResponseDTO patterns;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        cleanCode = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        refactoring = bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+        patterns = bookService.create(new BookRequestDTO("Design Patterns", "Erich Gamma", "0201633612", 1994));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar alterações parciais em blocos e reportar cada item")
+    void deveAplicarAlteracoesParciaisEReportarCadaItem() {
+        // Given
+        long pendingEvents = outboxService.countPending();
+        List<BookPatchDTO> patches = List.of(
+                patch(cleanCode.getId(), null, "Clean Code (2ª ed.)", null),
+                patch(refactoring.getId(), 7L, "Refactoring 2", null),
+                patch(-1L, null, "Inexistente", null),
+                patch(patterns.getId(), null, "Design Patterns", null),
+                patch(patterns.getId(), null, "Repetido", null),
+                patch(cleanCode.getId() + 1_000, null, "", null)
+        );
+
+        // When
+        BookBulkReportDTO report = bookBulkService.patch(patches.iterator());
+
+        // Then
+        assertThat(report.getItems())
+                .extracting(BookBulkItemResultDTO::getStatus)
+                .containsExactly(Status.UPDATED, Status.CONFLICT, Status.NOT_FOUND, Status.UNCHANGED,
+                        Status.INVALID, Status.INVALID);
+        assertThat(report.getItems().get(0).getVersion()).isEqualTo(cleanCode.getVersion() + 1);
+        assertThat(report.count(Status.UPDATED)).isEqualTo(1);
+        assertThat(report.getTotal()).isEqualTo(6);
+
+        Book updated = bookRepository.findById(cleanCode.getId()).orElseThrow();
+        assertThat(updated.getTitulo()).isEqualTo("Clean Code (2ª ed.)");
+        assertThat(updated.getAutor()).isEqualTo("Robert C. Martin");
+        assertThat(updated.getVersion()).isEqualTo(cleanCode.getVersion() + 1);
+        assertThat(bookService.findById(cleanCode.getId()).getTitulo()).isEqualTo("Clean Code (2ª ed.)");
+        assertThat(outboxService.countPending()).isEqualTo(pendingEvents + 1);
+    }
+
+    @Test
+    @DisplayName("Deve garantir ISBN único no banco e entre itens do lote")
+    void deveGarantirIsbnUnicoNoLote() {
+        // Given: o segundo item disputa o ISBN do primeiro no mesmo bloco; o quarto, em outro bloco
+        BookResponseDTO extra = bookService.create(new BookRequestDTO("Extra", "Autor", "0596007124", 2004));
+        List<BookPatchDTO> patches = List.of(
+                patch(cleanCode.getId(), null, null, "9780321125217"),
+                patch(refactoring.getId(), null, null, "978-0-321-12521-7"),
+                patch(patterns.getId(), null, null, "0596007124"),
+                patch(extra.getId(), null, null, "0-321-12521-5")
+        );
+
+        // When
+        BookBulkReportDTO report = bookBulkService.patch(patches.iterator());
+
+        // Then
+        assertThat(report.getItems())
+                .extracting(BookBulkItemResultDTO::getStatus)
+                .containsExactly(Status.UPDATED, Status.DUPLICATE, Status.DUPLICATE, Status.DUPLICATE);
+        assertThat(bookRepository.findResponseByIsbn("9780321125217")).get()
+                .extracting(BookResponseDTO::getId).isEqualTo(cleanCode.getId());
+    }
+
+    @Test
+    @DisplayName("Conflito de ISBN no UPDATE deve recusar só o item em conflito, não o bloco inteiro")
+    void conflitoNoUpdateDeveRecusarSoOItem() {
+        // Given: a consulta de ISBNs em uso não vê o ISBN, como quando outro escritor o grava logo depois dela
+        doReturn(List.of()).when(bookRepository).findExistingIsbns(anyCollection());
+        List<BookPatchDTO> patches = List.of(
+                patch(cleanCode.getId(), null, "Clean Code (2ª ed.)", null),
+                patch(refactoring.getId(), null, null, patterns.getIsbn())
+        );
+
+        // When
+        BookBulkReportDTO report = bookBulkService.patch(patches.iterator());
+
+        // Then
+        assertThat(report.getItems())
+                .extracting(BookBulkItemResultDTO::getStatus)
+                .containsExactly(Status.UPDATED, Status.DUPLICATE);
+        assertThat(bookService.findById(cleanCode.getId()).getTitulo()).isEqualTo("Clean Code (2ª ed.)");
+        assertThat(bookService.findById(refactoring.getId()).getIsbn()).isEqualTo(refactoring.getIsbn());
+    }
+
+    @Test
+    @DisplayName("Deve remover em lote distinguindo inexistente de versão diferente")
+    void deveRemoverEmLote() {
+        // Given
+        List<BookBulkDeleteDTO> items = List.of(
+                new BookBulkDeleteDTO(cleanCode.getId(), null),
+                new BookBulkDeleteDTO(refactoring.getId(), refactoring.getVersion()),
+                new BookBulkDeleteDTO(patterns.getId(), patterns.getVersion() + 1),
+                new BookBulkDeleteDTO(-1L, null),
+                new BookBulkDeleteDTO(null, null)
+        );
+
+        // When
+        BookBulkReportDTO report = bookBulkService.delete(items.iterator());
+
+        // Then
+        assertThat(report.getItems())
+                .extracting(BookBulkItemResultDTO::getStatus)
+                .containsExactly(Status.DELETED, Status.DELETED, Status.CONFLICT, Status.NOT_FOUND, Status.INVALID);
+        assertThat(report.count(Status.DELETED)).isEqualTo(2);
+        assertThat(bookRepository.findAll()).extracting(Book::getId).containsExactly(patterns.getId());
+    }
+
+    private static BookPatchDTO patch(Long id, Long version, String titulo, String isbn) {
+        return new BookPatchDTO(id, version, titulo, null, isbn, null);
+    }
+}
@@ -0,0 +1,176 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookChangeDTO;
+import com.i9systemas.bookstore.dto.BookChangesResponseDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.InvalidCursorException;
+import com.i9systemas.bookstore.metrics.SqlStatementCounter;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static com.i9systemas.bookstore.metrics.SqlStatementAssertions.assertStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@DisplayName("BookChangeFeedService - Testes de Integração")
+class BookChangeFeedServiceTest {
+
+    @Autowired
+    private BookChangeFeedService changeFeedService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String cursor;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        publish();
+        // Posiciona o cursor no fim do feed deixado pelos outros testes
+        BookChangesResponseDTO page = changeFeedService.changesSince(null, 1000);
+        while (page.isHasMore()) {
+            page = changeFeedService.changesSince(page.getNextCursor(), 1000);
+        }
+        cursor = page.getNextCursor();
+    }
+
+    @Test
+    @DisplayName("Deve entregar criações, atualizações e remoções em ordem, uma entrada por livro")
+    void deveEntregarMudancasEmOrdem() {
+        // Given
+        BookResponseDTO cleanCode = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        BookResponseDTO refactoring = bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+        publish();
+        bookService.update(cleanCode.getId(), new BookRequestDTO("Clean Code 2", "Robert C. Martin", "0132350882", 2008));
+        bookService.delete(refactoring.getId());
+        publish();
+
+        // When
+        BookChangesResponseDTO page = changeFeedService.changesSince(cursor, null);
+
+        // Then
+        assertThat(page.getChanges())
+                .extracting(BookChangeDTO::getType, BookChangeDTO::getBookId)
+                .containsExactly(
+                        tuple(BookChangeDTO.Type.UPSERT, cleanCode.getId()),
+                        tuple(BookChangeDTO.Type.DELETE, refactoring.getId()));
+        assertThat(page.getChanges().get(0).getBook().getTitulo()).isEqualTo("Clean Code 2");
+        assertThat(page.getChanges().get(1).getBook()).isNull();
+        assertThat(page.getChanges()).extracting(BookChangeDTO::getSequence).isSorted();
+        assertThat(page.isHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve retomar a partir do cursor e repeti-lo quando não há mudanças")
+    void deveRetomarAPartirDoCursor() {
+        // Given
+        for (String isbn : new String[]{"0132350882", "0201485672", "0596007124"}) {
+            bookService.create(new BookRequestDTO("Livro " + isbn, "Autor", isbn, 2000));
+        }
+        publish();
+
+        // When
+        BookChangesResponseDTO first = changeFeedService.changesSince(cursor, 2);
+        BookChangesResponseDTO second = changeFeedService.changesSince(first.getNextCursor(), 2);
+        BookChangesResponseDTO empty = changeFeedService.changesSince(second.getNextCursor(), 2);
+
+        // Then
+        assertThat(first.getChanges()).hasSize(2);
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getChanges()).hasSize(1);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getChanges().get(0).getSequence()).isGreaterThan(first.getChanges().get(1).getSequence());
+        assertThat(empty.getChanges()).isEmpty();
+        assertThat(empty.getNextCursor()).isEqualTo(second.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Mudança só aparece no feed depois de publicada pelo outbox")
+    void mudancaSoApareceDepoisDePublicada() {
+        // Given
+        bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+
+        // When / Then
+        assertThat(changeFeedService.changesSince(cursor, null).getChanges()).isEmpty();
+        publish();
+        assertThat(changeFeedService.changesSince(cursor, null).getChanges()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Deve consultar dois índices, independente do tamanho da tabela")
+    void deveExecutarDoisSelects() {
+        // Given
+        for (int i = 0; i < 50; i++) {
+            bookService.create(new BookRequestDTO("Livro " + i, "Autor", isbn(i), 2000));
+        }
+        publish();
+
+        // When / Then
+        assertStatements(counter, 2, () -> changeFeedService.changesSince(cursor, 10));
+    }
+
+    @Test
+    @DisplayName("Deve remover marcas de remoção mais antigas que a retenção do outbox")
+    void deveRemoverMarcasDeRemocaoAntigas() {
+        // Given
+        BookResponseDTO book = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        bookService.delete(book.getId());
+        publish();
+        jdbcTemplate.update("UPDATE book_tombstones SET deleted_at = ? WHERE book_id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(30)), book.getId());
+
+        // When
+        outboxService.purgePublished();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM book_tombstones WHERE book_id = ?",
+                Long.class, book.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor de paginação no feed")
+    void deveRejeitarCursorDePaginacao() {
+        assertThatThrownBy(() -> changeFeedService.changesSince(PageCursor.encode(1), null))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private void publish() {
+        while (outboxService.publishBatch() > 0) {
+            // próximo lote
+        }
+    }
+
+    // ISBN-13 válido com prefixo 978 e número sequencial
+    private static String isbn(int n) {
+        String base = String.format("978%09d", n);
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            sum += (base.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return base + (10 - sum % 10) % 10;
+    }
+}
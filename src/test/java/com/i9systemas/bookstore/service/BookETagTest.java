@@ -0,0 +1,50 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.dto.BookVersionDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookETag - Testes Unitários")
+class BookETagTest {
+
+    private final LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 10, 12, 30, 15, 123_456_000);
+
+    @Test
+    @DisplayName("Deve gerar o mesmo ETag para a entidade e para a projeção de versão")
+    void deveGerarMesmoETagParaEntidadeEProjecao() {
+        BookResponseDTO book = book(3L);
+
+        assertThat(BookETag.of(book)).isEqualTo(BookETag.of(new BookVersionDTO(1L, 3L, updatedAt)));
+        assertThat(BookETag.of(book)).isNotEqualTo(BookETag.of(new BookVersionDTO(1L, 4L, updatedAt)));
+    }
+
+    @Test
+    @DisplayName("Deve comparar If-Match de forma forte")
+    void deveCompararIfMatchDeFormaForte() {
+        String eTag = BookETag.of(new BookVersionDTO(1L, 3L, updatedAt));
+
+        assertThat(BookETag.matches("\"" + eTag + "\"", eTag)).isTrue();
+        assertThat(BookETag.matches("\"outro\", \"" + eTag + "\"", eTag)).isTrue();
+        assertThat(BookETag.matches("*", eTag)).isTrue();
+        assertThat(BookETag.matches("W/\"" + eTag + "\"", eTag)).isFalse();
+        assertThat(BookETag.matches("\"outro\"", eTag)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve mudar o ETag da página quando um livro muda")
+    void deveMudarETagDaPaginaQuandoLivroMuda() {
+        assertThat(BookETag.ofPage(List.of(book(0L)), null)).isEqualTo(BookETag.ofPage(List.of(book(0L)), null));
+        assertThat(BookETag.ofPage(List.of(book(0L)), null)).isNotEqualTo(BookETag.ofPage(List.of(book(1L)), null));
+    }
+
+    private BookResponseDTO book(Long version) {
+        return new BookResponseDTO(1L, "Clean Code", "Robert C. Martin", "0132350882", 2008,
+                updatedAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,94 @@
+package com.i9systemas.bookstore.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("BookExportService - Testes de Integração")
+class BookExportServiceTest {
+
+    @Autowired
+    private BookExportService exportService;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        bookService.create(new BookRequestDTO("Clean Code, 2ª edição", "Robert \"Uncle Bob\" Martin", "0132350882", 2008));
+        bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+        bookService.create(new BookRequestDTO("Head First\nDesign Patterns", "Eric Freeman", "0596007124", 2004));
+    }
+
+    @Test
+    @DisplayName("Deve exportar CSV com cabeçalho e campos escapados")
+    void deveExportarCsv() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(out, BookExportService.Format.CSV, null, null);
+
+        // Then
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertThat(count).isEqualTo(3);
+        assertThat(csv).startsWith(BookExportService.CSV_HEADER + "\r\n");
+        assertThat(csv).contains(",\"Clean Code, 2ª edição\",\"Robert \"\"Uncle Bob\"\" Martin\",9780132350884,2008,");
+        assertThat(csv).contains(",Refactoring,Martin Fowler,9780201485677,1999,");
+        assertThat(csv).contains(",\"Head First\nDesign Patterns\",Eric Freeman,");
+        assertThat(csv.split("\r\n")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Deve exportar NDJSON filtrando pela faixa de ano de publicação")
+    void deveExportarNdjsonPorFaixaDeAno() throws Exception {
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.export(out, BookExportService.Format.NDJSON, 2000, 2008);
+
+        // Then
+        List<JsonNode> lines = out.toString(StandardCharsets.UTF_8).lines()
+                .map(this::readTree)
+                .toList();
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).extracting(node -> node.get("anoPublicacao").asInt()).containsExactly(2008, 2004);
+        assertThat(lines.get(1).get("titulo").asText()).isEqualTo("Head First\nDesign Patterns");
+    }
+
+    @Test
+    @DisplayName("Deve exportar só o cabeçalho quando nenhum livro está na faixa")
+    void deveExportarSoCabecalhoSemResultados() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long count = exportService.export(out, BookExportService.Format.CSV, 2020, null);
+
+        assertThat(count).isZero();
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(BookExportService.CSV_HEADER + "\r\n");
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.config.BookFacetProperties;
+import com.i9systemas.bookstore.dto.BookBulkDeleteDTO;
+import com.i9systemas.bookstore.dto.BookFacetCountDTO;
+import com.i9systemas.bookstore.dto.BookFacetsDTO;
+import com.i9systemas.bookstore.dto.BookPatchDTO;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("BookFacetService - Testes de Integração")
+class BookFacetServiceTest {
+
+    @Autowired
+    private BookFacetService facetService;
+
+    @Autowired
+    private BookFacetProperties properties;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookBulkService bookBulkService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    private BookResponseDTO refactoring;
+    private BookResponseDTO cleanCode;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        properties.setSummaryEnabled(true);
+        facetService.invalidate();
+        cleanCode = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        bookService.create(new BookRequestDTO("Clean Architecture", "Robert C. Martin", "0134494164", 2017));
+        refactoring = bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+        bookService.create(new BookRequestDTO("Head First Design Patterns", "Eric Freeman", "0596007124", 2004));
+    }
+
+    @AfterEach
+    void tearDown() {
+        properties.setSummaryEnabled(false);
+    }
+
+    @Test
+    @DisplayName("Deve contar livros por autor, ano e década")
+    void deveContarPorAutorAnoEDecada() {
+        // When
+        BookFacetsDTO facets = facetService.facets(2);
+
+        // Then
+        assertThat(facets.getTotal()).isEqualTo(4);
+        assertThat(facets.getAutoresDistintos()).isEqualTo(3);
+        assertThat(facets.getAutores()).containsExactly(
+                new BookFacetCountDTO<>("Robert C. Martin", 2L),
+                new BookFacetCountDTO<>("Eric Freeman", 1L));
+        assertThat(facets.getAnos()).extracting(BookFacetCountDTO::getValor).containsExactly(1999, 2004, 2008, 2017);
+        assertThat(facets.getDecadas()).containsExactly(
+                new BookFacetCountDTO<>(1990, 1L),
+                new BookFacetCountDTO<>(2000, 2L),
+                new BookFacetCountDTO<>(2010, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve manter o resumo consistente após criar, alterar e remover")
+    void deveManterResumoConsistenteAposEscritas() {
+        // Given
+        BookFacetsDTO first = facetService.facets(null);
+        assertThat(facetService.facets(null)).isSameAs(first);
+
+        // When
+        bookService.update(refactoring.getId(),
+                new BookRequestDTO("Refactoring", "Robert C. Martin", "0201485672", 2018));
+        bookService.delete(cleanCode.getId());
+        bookService.create(new BookRequestDTO("Domain-Driven Design", "Eric Evans", "0321125215", 2003));
+
+        // Then
+        BookFacetsDTO facets = facetService.facets(null);
+        assertThat(facets).isNotSameAs(first).isEqualTo(fromDatabase(null));
+        assertThat(facets.getAutores()).first().isEqualTo(new BookFacetCountDTO<>("Robert C. Martin", 2L));
+        assertThat(facets.getAnos()).extracting(BookFacetCountDTO::getValor).containsExactly(2003, 2004, 2017, 2018);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o resumo após alteração e remoção em lote")
+    void deveRecarregarResumoAposOperacoesEmLote() {
+        // Given
+        facetService.facets(null);
+
+        // When
+        bookBulkService.patch(List.of(new BookPatchDTO(refactoring.getId(), null, null, "Eric Freeman", null, 1994))
+                .iterator());
+        assertThat(facetService.facets(null)).isEqualTo(fromDatabase(null));
+        bookBulkService.delete(List.of(new BookBulkDeleteDTO(cleanCode.getId(), null)).iterator());
+
+        // Then
+        BookFacetsDTO facets = facetService.facets(null);
+        assertThat(facets).isEqualTo(fromDatabase(null));
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getAutores()).first().isEqualTo(new BookFacetCountDTO<>("Eric Freeman", 2L));
+        assertThat(facets.getDecadas()).extracting(BookFacetCountDTO::getValor).containsExactly(1990, 2000, 2010);
+    }
+
+    private BookFacetsDTO fromDatabase(Integer limit) {
+        properties.setSummaryEnabled(false);
+        try {
+            return facetService.facets(limit);
+        } finally {
+            properties.setSummaryEnabled(true);
+        }
+    }
+}
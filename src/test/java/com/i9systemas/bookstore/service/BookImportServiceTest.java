@@ -0,0 +1,87 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookImportReportDTO;
+import com.i9systemas.bookstore.dto.BookImportRowResultDTO.Status;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = {
+        "bookstore.import.chunk-size=2",
+        "bookstore.import.batch-size=2"
+})
+@DisplayName("BookImportService - Testes de Integração")
+class BookImportServiceTest {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    @SpyBean
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve importar livros em lotes e reportar cada linha")
+    void deveImportarLivrosEmLotesEReportarCadaLinha() {
+        // Given
+        bookRepository.save(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999).toEntity());
+        List<BookRequestDTO> books = List.of(
+                new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008),
+                new BookRequestDTO("", "Autor", "0201633612", 1994),
+                new BookRequestDTO("Design Patterns", "Erich Gamma", "0201633612", 1994),
+                new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999),
+                new BookRequestDTO("Clean Code (cópia)", "Robert C. Martin", "0132350882", 2008)
+        );
+
+        // When
+        BookImportReportDTO report = bookImportService.importBooks(books.iterator());
+
+        // Then
+        assertThat(report.getTotal()).isEqualTo(5);
+        assertThat(report.getCreated()).isEqualTo(2);
+        assertThat(report.getInvalid()).isEqualTo(1);
+        assertThat(report.getDuplicates()).isEqualTo(2);
+        assertThat(report.getRows())
+                .extracting(row -> row.getStatus())
+                .containsExactly(Status.CREATED, Status.INVALID, Status.CREATED, Status.DUPLICATE, Status.DUPLICATE);
+        assertThat(report.getRows().get(0).getId()).isNotNull();
+        assertThat(bookRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Conflito de ISBN no INSERT deve recusar só a linha em conflito, não o lote inteiro")
+    void conflitoNoInsertDeveRecusarSoALinha() {
+        // Given: a consulta de existentes não vê o ISBN, como quando outro escritor o grava logo depois dela
+        bookRepository.save(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999).toEntity());
+        doReturn(List.of()).when(bookRepository).findExistingIsbns(anyCollection());
+        List<BookRequestDTO> books = List.of(
+                new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008),
+                new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999)
+        );
+
+        // When
+        BookImportReportDTO report = bookImportService.importBooks(books.iterator());
+
+        // Then
+        assertThat(report.getRows())
+                .extracting(row -> row.getStatus())
+                .containsExactly(Status.CREATED, Status.DUPLICATE);
+        assertThat(report.getRows().get(0).getId()).isNotNull();
+        assertThat(bookRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,180 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.NoOpBookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.BookNotFoundException;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("BookService - Agrupamento de buscas simultâneas")
+class BookServiceCoalescingTest {
+
+    private static final int BURST = 100;
+    private static final long QUERY_MILLIS = 200;
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookCache bookCache = new NoOpBookCache();
+    private final AtomicInteger queries = new AtomicInteger();
+    private final BookResponseDTO book = new BookResponseDTO(1L, "Clean Code", "Robert C. Martin", "9780132350884",
+            2008, LocalDateTime.now(), LocalDateTime.now(), 0L);
+
+    @BeforeEach
+    void setUp() {
+        // Consulta lenta: a rajada inteira chega enquanto a primeira ainda está no banco
+        when(bookRepository.findResponseById(anyLong())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(QUERY_MILLIS);
+            return invocation.getArgument(0, Long.class) == 1L ? Optional.of(book) : Optional.empty();
+        });
+        when(bookRepository.findResponseByIsbn(anyString())).thenAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(QUERY_MILLIS);
+            return Optional.of(book);
+        });
+    }
+
+    @Test
+    @DisplayName("Rajada pelo mesmo ID: N consultas sem agrupamento, uma com agrupamento")
+    void rajadaPeloMesmoIdDeveExecutarUmaConsulta() throws Exception {
+        // When
+        List<Object> withoutCoalescing = burst(service(false), service -> service.findById(1L));
+        int queriesWithoutCoalescing = queries.getAndSet(0);
+        List<Object> withCoalescing = burst(service(true), service -> service.findById(1L));
+
+        // Then
+        System.out.printf("[coalescing] rajada de %d buscas pelo mesmo ID: %d consultas sem agrupamento, %d com%n",
+                BURST, queriesWithoutCoalescing, queries.get());
+        assertThat(queriesWithoutCoalescing).isEqualTo(BURST);
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(withoutCoalescing).containsOnly(book);
+        assertThat(withCoalescing).containsOnly(book);
+    }
+
+    @Test
+    @DisplayName("Rajada por ISBN em formatos diferentes: uma consulta pela chave canônica")
+    void rajadaPorIsbnDeveExecutarUmaConsulta() throws Exception {
+        // When
+        BookService service = service(true);
+        AtomicInteger sequence = new AtomicInteger();
+        List<Object> results = burst(service, s -> s.findByIsbn(sequence.getAndIncrement() % 2 == 0
+                ? "978-0-13-235088-4"
+                : "0132350882"));
+
+        // Then
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(results).containsOnly(book);
+    }
+
+    @Test
+    @DisplayName("Livro inexistente: a BookNotFoundException da consulta única chega a todos")
+    void livroInexistenteDevePropagarExcecaoATodos() throws Exception {
+        // When
+        List<Object> results = burst(service(true), service -> service.findById(99L));
+
+        // Then
+        assertThat(queries.get()).isEqualTo(1);
+        assertThat(results).hasSize(BURST).allSatisfy(result -> assertThat(result)
+                .isInstanceOf(BookNotFoundException.class)
+                .hasFieldOrPropertyWithValue("message", "Livro não encontrado com o ID: 99"));
+    }
+
+    @Test
+    @DisplayName("Rajadas sucessivas: uma consulta por rajada")
+    void rajadasSucessivasDevemConsultarUmaVezCada() throws Exception {
+        // When
+        BookService service = service(true);
+        for (int i = 0; i < 3; i++) {
+            burst(service, s -> s.findById(1L));
+        }
+
+        // Then
+        assertThat(queries.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Consulta lenta além do timeout: quem espera consulta por conta própria")
+    void esperaAlemDoTimeoutDeveConsultarPorContaPropria() throws Exception {
+        // Given
+        BookService service = new BookService(bookRepository, bookCache,
+                new SingleFlight<>(true, Duration.ofMillis(20)), mock(BookSearchEngine.class),
+                mock(ApplicationEventPublisher.class));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<BookResponseDTO> leader = executor.submit(() -> service.findById(1L));
+            Thread.sleep(QUERY_MILLIS / 4);
+
+            // When
+            Future<BookResponseDTO> waiter = executor.submit(() -> service.findById(1L));
+
+            // Then
+            assertThat(leader.get()).isEqualTo(book);
+            assertThat(waiter.get()).isEqualTo(book);
+            assertThat(queries.get()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private BookService service(boolean coalescing) {
+        return new BookService(bookRepository, bookCache, new SingleFlight<>(coalescing, Duration.ofSeconds(5)),
+                mock(BookSearchEngine.class), mock(ApplicationEventPublisher.class));
+    }
+
+    // Dispara BURST buscas ao mesmo tempo e devolve o resultado ou a exceção de cada uma
+    private List<Object> burst(BookService service, Lookup lookup) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(BURST);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < BURST; i++) {
+                Callable<Object> call = () -> {
+                    start.await();
+                    return lookup.find(service);
+                };
+                futures.add(executor.submit(call));
+            }
+            start.countDown();
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                try {
+                    results.add(future.get(10, TimeUnit.SECONDS));
+                } catch (ExecutionException ex) {
+                    results.add(ex.getCause());
+                }
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private interface Lookup {
+        Object find(BookService service);
+    }
+}
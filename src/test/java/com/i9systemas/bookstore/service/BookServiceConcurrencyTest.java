@@ -0,0 +1,153 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.exception.PreconditionFailedException;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "bookstore.update.retry.max-attempts=50")
+@DisplayName("BookService - Testes de Concorrência")
+class BookServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 10;
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve aceitar apenas uma criação concorrente para o mesmo ISBN")
+    void deveAceitarApenasUmaCriacaoConcorrenteParaMesmoIsbn() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            BookRequestDTO requestDTO = new BookRequestDTO("Clean Code " + i, "Robert C. Martin", "0132350882", 2008);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    bookService.create(requestDTO);
+                    return "CREATED";
+                } catch (DuplicateIsbnException ex) {
+                    return "DUPLICATE";
+                }
+            }));
+        }
+
+        // When
+        start.countDown();
+        List<String> outcomes = new ArrayList<>();
+        for (Future<String> result : results) {
+            outcomes.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(outcomes).containsOnlyOnce("CREATED");
+        assertThat(outcomes).filteredOn("DUPLICATE"::equals).hasSize(THREADS - 1);
+        assertThat(bookRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Não deve perder atualizações concorrentes condicionadas por If-Match")
+    void naoDevePerderAtualizacoesConcorrentesComIfMatch() throws Exception {
+        // Given
+        BookResponseDTO created = bookService.create(new BookRequestDTO("T", "Autor", "0132350882", 2008));
+        Long id = created.getId();
+
+        // When: cada thread acrescenta um caractere ao título, relendo e repetindo em 412
+        runConcurrently(() -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                while (true) {
+                    BookResponseDTO current = bookService.findById(id);
+                    BookRequestDTO requestDTO = new BookRequestDTO(current.getTitulo() + "+", "Autor", "0132350882", 2008);
+                    try {
+                        bookService.update(id, requestDTO, "\"" + BookETag.of(current) + "\"");
+                        break;
+                    } catch (PreconditionFailedException ex) {
+                        // outra thread escreveu antes: relê e tenta de novo
+                    }
+                }
+            }
+        });
+
+        // Then
+        BookResponseDTO result = bookService.findById(id);
+        assertThat(result.getTitulo()).hasSize(1 + THREADS * UPDATES_PER_THREAD);
+        assertThat(result.getVersion()).isEqualTo((long) THREADS * UPDATES_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("Toda atualização confirmada sem If-Match deve gerar uma nova versão")
+    void todaAtualizacaoConfirmadaDeveGerarNovaVersao() throws Exception {
+        // Given
+        BookResponseDTO created = bookService.create(new BookRequestDTO("Clean Code", "Autor", "0132350882", 2008));
+        AtomicInteger applied = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+
+        // When
+        runConcurrently(() -> {
+            for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                try {
+                    // Títulos distintos: uma escrita idêntica ao estado atual não gera UPDATE
+                    String titulo = "Clean Code " + sequence.incrementAndGet();
+                    bookService.update(created.getId(), new BookRequestDTO(titulo, "Autor", "0132350882", 2008));
+                    applied.incrementAndGet();
+                } catch (ObjectOptimisticLockingFailureException ex) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        // Then
+        assertThat(applied.get() + conflicts.get()).isEqualTo(THREADS * UPDATES_PER_THREAD);
+        assertThat(bookService.findById(created.getId()).getVersion()).isEqualTo(applied.get());
+    }
+
+    private void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
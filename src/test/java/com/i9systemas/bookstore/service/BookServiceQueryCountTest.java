@@ -0,0 +1,106 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.dto.BookRequestDTO;
+import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.exception.BookNotFoundException;
+import com.i9systemas.bookstore.exception.PreconditionFailedException;
+import com.i9systemas.bookstore.metrics.SqlStatementCounter;
+import com.i9systemas.bookstore.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.i9systemas.bookstore.metrics.SqlStatementAssertions.assertStatements;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("BookService - Comandos SQL por operação")
+class BookServiceQueryCountTest {
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookCache bookCache;
+
+    @Autowired
+    private SqlStatementCounter counter;
+
+    private BookResponseDTO book;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        book = bookService.create(new BookRequestDTO("Clean Code", "Robert C. Martin", "0132350882", 2008));
+        bookCache.clear();
+    }
+
+    @Test
+    @DisplayName("Criação: um INSERT do livro e um do outbox")
+    void criacaoDeveExecutarUmInsert() {
+        // Os blocos de IDs das sequences já foram reservados no setUp
+        assertStatements(counter, 2,
+                () -> bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999)));
+    }
+
+    @Test
+    @DisplayName("Busca por ID e ISBN: um SELECT, nenhum com o cache aquecido")
+    void buscaDeveExecutarUmSelectOuNenhumComCache() {
+        assertStatements(counter, 1, () -> bookService.findById(book.getId()));
+        assertStatements(counter, 0, () -> bookService.findById(book.getId()));
+        assertStatements(counter, 0, () -> bookService.findByIsbn("978-0-13-235088-4"));
+    }
+
+    @Test
+    @DisplayName("Busca em lote: um SELECT para IDs e um para ISBNs, nenhum com o cache aquecido")
+    void buscaEmLoteDeveExecutarUmSelectPorTipoDeChave() {
+        BookResponseDTO other = bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+        bookCache.clear();
+        List<Long> ids = new ArrayList<>(LongStream.rangeClosed(-200, -1).boxed().toList());
+        ids.add(book.getId());
+
+        assertStatements(counter, 2, () -> bookService.batchGet(ids, List.of("0201485672")));
+        assertStatements(counter, 0, () -> bookService.batchGet(List.of(book.getId(), other.getId()), List.of("0201485672")));
+    }
+
+    @Test
+    @DisplayName("Página: um SELECT")
+    void paginaDeveExecutarUmSelect() {
+        assertStatements(counter, 1, () -> bookService.findPage(null, 50));
+    }
+
+    @Test
+    @DisplayName("Atualização: um SELECT, um UPDATE e o INSERT do outbox")
+    void atualizacaoDeveExecutarSelectEUpdate() {
+        assertStatements(counter, 3, () -> bookService.update(book.getId(),
+                new BookRequestDTO("Clean Code 2", "Robert C. Martin", "0132350882", 2008)));
+    }
+
+    @Test
+    @DisplayName("Remoção: SELECT ... FOR UPDATE, DELETE e o INSERT do outbox, com ou sem If-Match")
+    void remocaoDeveExecutarUmDelete() {
+        BookResponseDTO other = bookService.create(new BookRequestDTO("Refactoring", "Martin Fowler", "0201485672", 1999));
+
+        assertStatements(counter, 3, () -> bookService.delete(book.getId()));
+        assertStatements(counter, 3, () -> bookService.delete(other.getId(), "\"" + BookETag.of(other) + "\""));
+    }
+
+    @Test
+    @DisplayName("Remoção rejeitada: só a leitura do livro distingue 404 de 412")
+    void remocaoRejeitadaDeveConsultarVersao() {
+        assertStatements(counter, 1, () -> assertThatThrownBy(() -> bookService.delete(book.getId(), "\"" + book.getId() + "-7\""))
+                .isInstanceOf(PreconditionFailedException.class));
+        assertStatements(counter, 1, () -> assertThatThrownBy(() -> bookService.delete(-1L))
+                .isInstanceOf(BookNotFoundException.class));
+    }
+}
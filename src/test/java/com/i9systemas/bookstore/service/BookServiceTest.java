@@ -1,26 +1,44 @@
 package com.i9systemas.bookstore.service;
 
+import com.i9systemas.bookstore.cache.BookCache;
+import com.i9systemas.bookstore.cache.SingleFlight;
+import com.i9systemas.bookstore.dto.BookBatchGetItemDTO;
+import com.i9systemas.bookstore.dto.BookBatchGetResponseDTO;
+import com.i9systemas.bookstore.dto.BookPageResponseDTO;
 import com.i9systemas.bookstore.dto.BookRequestDTO;
 import com.i9systemas.bookstore.dto.BookResponseDTO;
+import com.i9systemas.bookstore.event.BookChangedEvent;
 import com.i9systemas.bookstore.exception.BookNotFoundException;
+import com.i9systemas.bookstore.exception.DuplicateIsbnException;
+import com.i9systemas.bookstore.exception.PreconditionFailedException;
 import com.i9systemas.bookstore.model.Book;
 import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.search.BookSearchEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.LongStream;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +49,18 @@ class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookCache bookCache;
+
+    @Spy
+    private SingleFlight<Object, BookResponseDTO> bookLookups = new SingleFlight<>(true, Duration.ofSeconds(1));
+
+    @Mock
+    private BookSearchEngine bookSearchEngine;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private BookService bookService;
 
@@ -43,15 +73,16 @@ class BookServiceTest {
         book.setId(1L);
         book.setTitulo("Clean Code");
         book.setAutor("Robert C. Martin");
-        book.setIsbn("0132350884");
+        book.setIsbn("0132350882");
         book.setAnoPublicacao(2008);
         book.setCreatedAt(LocalDateTime.now());
         book.setUpdatedAt(LocalDateTime.now());
+        book.setVersion(0L);
 
         bookRequestDTO = new BookRequestDTO();
         bookRequestDTO.setTitulo("Clean Code");
         bookRequestDTO.setAutor("Robert C. Martin");
-        bookRequestDTO.setIsbn("0132350884");
+        bookRequestDTO.setIsbn("0132350882");
         bookRequestDTO.setAnoPublicacao(2008);
     }
 
@@ -59,7 +90,7 @@ class BookServiceTest {
     @DisplayName("Deve criar um livro com sucesso")
     void deveCriarLivroComSucesso() {
         // Given
-        when(bookRepository.save(any(Book.class))).thenReturn(book);
+        when(bookRepository.saveAndFlush(any(Book.class))).thenReturn(book);
 
         // When
         BookResponseDTO response = bookService.create(bookRequestDTO);
@@ -69,10 +100,27 @@ class BookServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getTitulo()).isEqualTo("Clean Code");
         assertThat(response.getAutor()).isEqualTo("Robert C. Martin");
-        assertThat(response.getIsbn()).isEqualTo("0132350884");
+        assertThat(response.getIsbn()).isEqualTo("0132350882");
         assertThat(response.getAnoPublicacao()).isEqualTo(2008);
 
-        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(bookRepository, times(1)).saveAndFlush(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("Deve traduzir violação da constraint de ISBN em ISBN duplicado")
+    void deveTraduzirViolacaoDeIsbnEmIsbnDuplicado() {
+        // Given
+        ConstraintViolationException violation = new ConstraintViolationException(
+                "duplicate key", new SQLException("duplicate key", "23505"), DuplicateIsbnException.ISBN_CONSTRAINT);
+        when(bookRepository.saveAndFlush(any(Book.class)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement", violation));
+
+        // When/Then
+        assertThatThrownBy(() -> bookService.create(bookRequestDTO))
+                .isInstanceOf(DuplicateIsbnException.class)
+                .hasMessage("Já existe um livro cadastrado com o ISBN: 9780132350884");
+
+        verify(bookCache, never()).evict(any(), any(String[].class));
     }
 
     @Test
@@ -88,8 +136,8 @@ class BookServiceTest {
         book2.setCreatedAt(LocalDateTime.now());
         book2.setUpdatedAt(LocalDateTime.now());
 
-        List<Book> books = Arrays.asList(book, book2);
-        when(bookRepository.findAll()).thenReturn(books);
+        List<BookResponseDTO> books = Arrays.asList(BookResponseDTO.fromEntity(book), BookResponseDTO.fromEntity(book2));
+        when(bookRepository.findAllResponses()).thenReturn(books);
 
         // When
         List<BookResponseDTO> response = bookService.findAll();
@@ -100,14 +148,14 @@ class BookServiceTest {
         assertThat(response.get(0).getTitulo()).isEqualTo("Clean Code");
         assertThat(response.get(1).getTitulo()).isEqualTo("Design Patterns");
 
-        verify(bookRepository, times(1)).findAll();
+        verify(bookRepository, times(1)).findAllResponses();
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando não há livros")
     void deveRetornarListaVaziaQuandoNaoHaLivros() {
         // Given
-        when(bookRepository.findAll()).thenReturn(Arrays.asList());
+        when(bookRepository.findAllResponses()).thenReturn(Arrays.asList());
 
         // When
         List<BookResponseDTO> response = bookService.findAll();
@@ -116,14 +164,14 @@ class BookServiceTest {
         assertThat(response).isNotNull();
         assertThat(response).isEmpty();
 
-        verify(bookRepository, times(1)).findAll();
+        verify(bookRepository, times(1)).findAllResponses();
     }
 
     @Test
     @DisplayName("Deve buscar livro por ID com sucesso")
     void deveBuscarLivroPorIdComSucesso() {
         // Given
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.findResponseById(1L)).thenReturn(Optional.of(BookResponseDTO.fromEntity(book)));
 
         // When
         BookResponseDTO response = bookService.findById(1L);
@@ -133,21 +181,21 @@ class BookServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getTitulo()).isEqualTo("Clean Code");
 
-        verify(bookRepository, times(1)).findById(1L);
+        verify(bookRepository, times(1)).findResponseById(1L);
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando livro não for encontrado por ID")
     void deveLancarExcecaoQuandoLivroNaoForEncontradoPorId() {
         // Given
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.findResponseById(anyLong())).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> bookService.findById(999L))
                 .isInstanceOf(BookNotFoundException.class)
                 .hasMessage("Livro não encontrado com o ID: 999");
 
-        verify(bookRepository, times(1)).findById(999L);
+        verify(bookRepository, times(1)).findResponseById(999L);
     }
 
     @Test
@@ -157,20 +205,20 @@ class BookServiceTest {
         BookRequestDTO updateDTO = new BookRequestDTO();
         updateDTO.setTitulo("Clean Code - Updated");
         updateDTO.setAutor("Robert C. Martin");
-        updateDTO.setIsbn("0132350884");
+        updateDTO.setIsbn("0132350882");
         updateDTO.setAnoPublicacao(2008);
 
         Book updatedBook = new Book();
         updatedBook.setId(1L);
         updatedBook.setTitulo("Clean Code - Updated");
         updatedBook.setAutor("Robert C. Martin");
-        updatedBook.setIsbn("0132350884");
+        updatedBook.setIsbn("0132350882");
         updatedBook.setAnoPublicacao(2008);
         updatedBook.setCreatedAt(book.getCreatedAt());
         updatedBook.setUpdatedAt(LocalDateTime.now());
 
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(bookRepository.save(any(Book.class))).thenReturn(updatedBook);
+        when(bookRepository.findBookById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.saveAndFlush(any(Book.class))).thenReturn(updatedBook);
 
         // When
         BookResponseDTO response = bookService.update(1L, updateDTO);
@@ -180,53 +228,249 @@ class BookServiceTest {
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getTitulo()).isEqualTo("Clean Code - Updated");
 
-        verify(bookRepository, times(1)).findById(1L);
-        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(bookRepository, times(1)).findBookById(1L);
+        verify(bookRepository, times(1)).saveAndFlush(any(Book.class));
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao tentar atualizar livro inexistente")
     void deveLancarExcecaoAoTentarAtualizarLivroInexistente() {
         // Given
-        when(bookRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.findBookById(anyLong())).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> bookService.update(999L, bookRequestDTO))
                 .isInstanceOf(BookNotFoundException.class)
                 .hasMessage("Livro não encontrado com o ID: 999");
 
-        verify(bookRepository, times(1)).findById(999L);
-        verify(bookRepository, never()).save(any(Book.class));
+        verify(bookRepository, times(1)).findBookById(999L);
+        verify(bookRepository, never()).saveAndFlush(any(Book.class));
     }
 
     @Test
     @DisplayName("Deve deletar livro com sucesso")
     void deveDeletarLivroComSucesso() {
         // Given
-        when(bookRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(bookRepository).deleteById(1L);
+        when(bookRepository.findForUpdate(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.deleteBookById(1L)).thenReturn(1);
 
         // When
         bookService.delete(1L);
 
         // Then
-        verify(bookRepository, times(1)).existsById(1L);
-        verify(bookRepository, times(1)).deleteById(1L);
+        verify(bookRepository, times(1)).deleteBookById(1L);
+        // O evento leva o livro removido, com o ISBN, mesmo sem ele estar no cache
+        verify(eventPublisher).publishEvent(BookChangedEvent.deleted(1L, BookResponseDTO.fromEntity(book)));
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao tentar deletar livro inexistente")
     void deveLancarExcecaoAoTentarDeletarLivroInexistente() {
         // Given
-        when(bookRepository.existsById(anyLong())).thenReturn(false);
+        when(bookRepository.findForUpdate(999L)).thenReturn(Optional.empty());
 
         // When/Then
         assertThatThrownBy(() -> bookService.delete(999L))
                 .isInstanceOf(BookNotFoundException.class)
                 .hasMessage("Livro não encontrado com o ID: 999");
 
-        verify(bookRepository, times(1)).existsById(999L);
-        verify(bookRepository, never()).deleteById(anyLong());
+        verify(bookRepository, never()).deleteBookById(anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
-}
 
+    @Test
+    @DisplayName("Deve paginar por cursor e indicar a próxima página")
+    void devePaginarPorCursorEIndicarProximaPagina() {
+        // Given
+        Book book2 = new Book();
+        book2.setId(2L);
+        book2.setTitulo("Design Patterns");
+        book2.setAutor("Erich Gamma");
+        book2.setIsbn("0201633612");
+        book2.setAnoPublicacao(1994);
+
+        when(bookRepository.findResponsePageAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(BookResponseDTO.fromEntity(book), BookResponseDTO.fromEntity(book2)));
+
+        // When
+        BookPageResponseDTO page = bookService.findPage(null, 1);
+
+        // Then
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getId()).isEqualTo(1L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(PageCursor.decode(page.getNextCursor())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar última página sem cursor seguinte")
+    void deveRetornarUltimaPaginaSemCursorSeguinte() {
+        // Given
+        when(bookRepository.findResponsePageAfter(1L, PageRequest.of(0, BookService.DEFAULT_PAGE_LIMIT + 1)))
+                .thenReturn(List.of());
+
+        // When
+        BookPageResponseDTO page = bookService.findPage(PageCursor.encode(1L), null);
+
+        // Then
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getLimit()).isEqualTo(BookService.DEFAULT_PAGE_LIMIT);
+    }
+
+    @Test
+    @DisplayName("Deve retornar livro do cache sem consultar o banco")
+    void deveRetornarLivroDoCacheSemConsultarBanco() {
+        // Given
+        when(bookCache.getById(1L)).thenReturn(Optional.of(BookResponseDTO.fromEntity(book)));
+
+        // When
+        BookResponseDTO response = bookService.findById(1L);
+
+        // Then
+        assertThat(response.getTitulo()).isEqualTo("Clean Code");
+        verify(bookRepository, never()).findResponseById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve popular o cache após buscar livro por ISBN no banco")
+    void devePopularCacheAposBuscarPorIsbn() {
+        // Given
+        when(bookRepository.findResponseByIsbn("9780132350884")).thenReturn(Optional.of(BookResponseDTO.fromEntity(book)));
+
+        // When
+        BookResponseDTO response = bookService.findByIsbn("0132350882");
+
+        // Then
+        assertThat(response.getId()).isEqualTo(1L);
+        verify(bookCache, times(1)).put(response);
+    }
+
+    @Test
+    @DisplayName("Deve buscar por ISBN normalizado independentemente da formatação")
+    void deveBuscarPorIsbnNormalizado() {
+        // Given
+        when(bookRepository.findResponseByIsbn("9780132350884")).thenReturn(Optional.of(BookResponseDTO.fromEntity(book)));
+
+        // When
+        bookService.findByIsbn("ISBN 978-0-13-235088-4");
+
+        // Then
+        verify(bookCache, times(1)).getByIsbn("9780132350884");
+        verify(bookRepository, times(1)).findResponseByIsbn("9780132350884");
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco quando o ISBN buscado é inválido")
+    void naoDeveConsultarBancoQuandoIsbnInvalido() {
+        // When/Then
+        assertThatThrownBy(() -> bookService.findByIsbn("9780132350883"))
+                .isInstanceOf(BookNotFoundException.class);
+
+        verify(bookRepository, never()).findResponseByIsbn(any());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar ISBN antigo e novo ao atualizar ISBN")
+    void deveInvalidarIsbnAntigoENovoAoAtualizarIsbn() {
+        // Given
+        BookRequestDTO updateDTO = new BookRequestDTO("Clean Code", "Robert C. Martin", "9780132350884", 2008);
+        when(bookRepository.findBookById(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.saveAndFlush(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        bookService.update(1L, updateDTO);
+
+        // Then
+        verify(bookCache, times(1)).evict(1L, "0132350882", "9780132350884");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar atualização quando If-Match não confere")
+    void deveRejeitarAtualizacaoQuandoIfMatchNaoConfere() {
+        // Given
+        when(bookRepository.findBookById(1L)).thenReturn(Optional.of(book));
+
+        // When/Then
+        assertThatThrownBy(() -> bookService.update(1L, bookRequestDTO, "\"1-99\""))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        verify(bookRepository, never()).saveAndFlush(any(Book.class));
+    }
+
+    @Test
+    @DisplayName("Deve remover livro quando If-Match confere")
+    void deveRemoverLivroQuandoIfMatchConfere() {
+        // Given
+        when(bookRepository.findForUpdate(1L)).thenReturn(Optional.of(book));
+        when(bookRepository.deleteBookById(1L)).thenReturn(1);
+        String eTag = BookETag.of(BookResponseDTO.fromEntity(book));
+
+        // When
+        bookService.delete(1L, "\"" + eTag + "\"");
+
+        // Then
+        verify(bookRepository, times(1)).deleteBookById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve responder 412 quando o livro existe em outra versão")
+    void deveRejeitarRemocaoQuandoVersaoMudou() {
+        // Given
+        book.setVersion(1L);
+        when(bookRepository.findForUpdate(1L)).thenReturn(Optional.of(book));
+
+        // When/Then
+        assertThatThrownBy(() -> bookService.delete(1L, "\"1-0\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(bookRepository, never()).deleteBookById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve resolver lote na ordem da requisição com marcadores de ausência")
+    void deveResolverLoteNaOrdemDaRequisicao() {
+        // Given
+        Book other = new Book(2L, "Refactoring", "Martin Fowler", "9780201485677", 1999,
+                LocalDateTime.now(), LocalDateTime.now(), 0L, null);
+        book.setIsbn("9780132350884");
+        when(bookCache.getById(anyLong())).thenReturn(Optional.empty());
+        when(bookCache.getByIsbn("9780201485677")).thenReturn(Optional.of(BookResponseDTO.fromEntity(other)));
+        when(bookRepository.findResponsesByIdIn(List.of(2L, 1L, 99L)))
+                .thenReturn(List.of(BookResponseDTO.fromEntity(book), BookResponseDTO.fromEntity(other)));
+
+        // When
+        BookBatchGetResponseDTO response = bookService.batchGet(
+                List.of(2L, 1L, 99L, 2L), List.of("0-201-48567-2", "123"));
+
+        // Then
+        assertThat(response.getResults())
+                .extracting(BookBatchGetItemDTO::getStatus)
+                .containsExactly(BookBatchGetItemDTO.Status.FOUND, BookBatchGetItemDTO.Status.FOUND,
+                        BookBatchGetItemDTO.Status.NOT_FOUND, BookBatchGetItemDTO.Status.FOUND,
+                        BookBatchGetItemDTO.Status.FOUND, BookBatchGetItemDTO.Status.INVALID);
+        assertThat(response.getResults().get(0).getBook().getTitulo()).isEqualTo("Refactoring");
+        assertThat(response.getResults().get(1).getBook().getTitulo()).isEqualTo("Clean Code");
+        assertThat(response.getResults().get(4).getIsbn()).isEqualTo("0-201-48567-2");
+        assertThat(response.getFound()).isEqualTo(4);
+        assertThat(response.getNotFound()).isEqualTo(2);
+        verify(bookRepository, never()).findResponsesByIsbnIn(anyCollection());
+        verify(bookCache, times(2)).put(any(BookResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Deve dividir lotes grandes em blocos de IN")
+    void deveDividirLotesGrandesEmBlocos() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, BookService.BATCH_GET_CHUNK_SIZE + 1).boxed().toList();
+        when(bookCache.getById(anyLong())).thenReturn(Optional.empty());
+        when(bookRepository.findResponsesByIdIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        BookBatchGetResponseDTO response = bookService.batchGet(ids, null);
+
+        // Then
+        assertThat(response.getNotFound()).isEqualTo(ids.size());
+        verify(bookRepository, times(2)).findResponsesByIdIn(anyCollection());
+    }
+}
@@ -0,0 +1,30 @@
+package com.i9systemas.bookstore.service;
+
+import com.i9systemas.bookstore.exception.InvalidCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PageCursor - Testes Unitários")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Deve codificar e decodificar o último ID")
+    void deveCodificarEDecodificarUltimoId() {
+        String cursor = PageCursor.encode(123456789L);
+
+        assertThat(cursor).doesNotContain("123456789");
+        assertThat(PageCursor.decode(cursor)).isEqualTo(123456789L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor malformado")
+    void deveRejeitarCursorMalformado() {
+        assertThatThrownBy(() -> PageCursor.decode("não-é-base64"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode(1L).substring(1)))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.i9systemas.bookstore.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Isbn - Testes Unitários")
+class IsbnTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0132350882",
+            "0-13-235088-2",
+            "0 13 235088 2",
+            "9780132350884",
+            "978-0132350884",
+            "978-0-13-235088-4",
+            "978 0 13 235088 4",
+            "ISBN 0132350882",
+            "ISBN-10: 0-13-235088-2",
+            "ISBN-13: 978-0-13-235088-4"
+    })
+    @DisplayName("Deve normalizar formatos aceitos para o ISBN-13 canônico")
+    void deveNormalizarParaIsbn13Canonico(String isbn) {
+        assertThat(Isbn.isValid(isbn)).isTrue();
+        assertThat(Isbn.normalize(isbn)).isEqualTo("9780132350884");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"080442957X", "0-8044-2957-x"})
+    @DisplayName("Deve aceitar X como dígito verificador do ISBN-10")
+    void deveAceitarXComoDigitoVerificador(String isbn) {
+        assertThat(Isbn.normalize(isbn)).isEqualTo("9780804429573");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "0132350884",
+            "9780132350883",
+            "978-0-13-235088-5",
+            "9790132350884"
+    })
+    @DisplayName("Deve rejeitar dígito verificador incorreto")
+    void deveRejeitarDigitoVerificadorIncorreto(String isbn) {
+        assertThat(Isbn.isValid(isbn)).isFalse();
+        assertThat(Isbn.normalize(isbn)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "013235088",
+            "01323508822",
+            "1230132350884",
+            "978--0132350884",
+            "-9780132350884",
+            "9780132350884-",
+            "97801323508X4",
+            "X132350882",
+            "isbn 0132350882",
+            "ISBN-12: 0132350882"
+    })
+    @DisplayName("Deve rejeitar formatos inválidos")
+    void deveRejeitarFormatosInvalidos(String isbn) {
+        assertThat(Isbn.isValid(isbn)).isFalse();
+    }
+}
@@ -0,0 +1,79 @@
+package com.i9systemas.bookstore.warmup;
+
+import com.i9systemas.bookstore.config.WarmUpProperties;
+import com.i9systemas.bookstore.repository.BookRepository;
+import com.i9systemas.bookstore.service.BookService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "bookstore.warmup.enabled=true",
+        "bookstore.warmup.requests=5",
+        "management.endpoint.health.probes.enabled=true"
+})
+@DisplayName("Aquecimento antes do readiness - Testes de Integração")
+class WarmUpRunnerIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ApplicationAvailability availability;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("Leituras pela porta HTTP antes do readiness, sem gravar nada")
+    void aquecimentoAntesDoReadiness() throws Exception {
+        HttpResponse<String> readiness = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/actuator/health/readiness")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(readiness.statusCode()).isEqualTo(200);
+        assertThat(availability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+        assertThat(meterRegistry.get("http.server.requests").tag("uri", "/api/livros").timer().count())
+                .isGreaterThanOrEqualTo(5);
+        assertThat(bookRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Falha no aquecimento não impede a subida")
+    void falhaNoAquecimento() throws Exception {
+        WarmUpProperties properties = new WarmUpProperties();
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenThrow(new SQLException("banco indisponível"));
+        BookService bookService = mock(BookService.class);
+        WarmUpRunner runner = new WarmUpRunner(properties, mock(ApplicationContext.class), dataSource,
+                mock(Validator.class), bookService);
+
+        assertThatCode(() -> runner.run(new DefaultApplicationArguments())).doesNotThrowAnyException();
+        verify(bookService, never()).findPage(null, 20);
+    }
+}